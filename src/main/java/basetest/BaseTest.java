@@ -334,23 +334,21 @@
 
 package basetest;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.testng.annotations.*;
 import utils.ExtentManager;
+import utils.ScreenshotPipeline;
+import utils.ScreenshotStore;
 import utils.ScreenshotUtils;
+import utils.WaitEngine;
+import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 
 import java.io.File;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Base64;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Clase base para todos los tests de automatización con sistema avanzado de reportes.
@@ -361,8 +359,12 @@ import java.util.Map;
  */
 @Listeners(utils.ExtentTestListener.class)
 public class BaseTest {
-    private static ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
-    private static ThreadLocal<List<PendingStep>> pendingStepsThreadLocal = new ThreadLocal<>();
+    // Cada hilo de TestNG tiene su propio driver y buffer de steps, lo que permite ejecutar en paralelo
+    private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<List<PendingStep>> pendingStepsThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Long> driverWaitThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Long> sleepThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<CapturePolicy> capturePolicyThreadLocal = new ThreadLocal<>();
 
     /**
      * Define cómo se procesan los steps en el sistema de reportes.
@@ -392,12 +394,14 @@ public class BaseTest {
 
     /**
      * Representa un step pendiente en el buffer con su screenshot asociado.
+     * La captura se guarda como bytes PNG y solo se codifica a base64 cuando el step se escribe en el reporte;
+     * los steps descartados con DISCARD_AND_FAIL no pagan la codificación.
      */
     public static class PendingStep {
         private String description;
         private boolean isPassed;
         private boolean takeScreenshot;
-        private String screenshotBase64;
+        private byte[] screenshot;
 
         public PendingStep(String description, boolean isPassed, boolean takeScreenshot) {
             this.description = description;
@@ -405,27 +409,24 @@ public class BaseTest {
             this.takeScreenshot = takeScreenshot;
 
             if (takeScreenshot && getDriver() != null) {
-                this.screenshotBase64 = captureScreenshotAsBase64();
-            }
-        }
-
-        private String captureScreenshotAsBase64() {
-            try {
-                return ((TakesScreenshot) getDriver()).getScreenshotAs(OutputType.BASE64);
-            } catch (Exception e) {
-                System.err.println("Error capturando screenshot: " + e.getMessage());
-                return null;
+                this.screenshot = captureScreenshot(description, isPassed, getDriver());
             }
         }
 
         public String getDescription() { return description; }
         public boolean isPassed() { return isPassed; }
         public boolean shouldTakeScreenshot() { return takeScreenshot; }
-        public String getScreenshotBase64() { return screenshotBase64; }
+        /** Bytes PNG del screenshot, o null si no se capturó */
+        public byte[] getScreenshot() { return screenshot; }
+        /** Screenshot codificado en base64 en el momento de la llamada */
+        public String getScreenshotBase64() { return screenshot == null ? null : Base64.getEncoder().encodeToString(screenshot); }
     }
 
     @BeforeSuite
     public void setUpSuite() {
+        // Los navegadores pre-calentados arrancan mientras se prepara el reporte
+        DriverPool.prewarm();
+
         ExtentManager.createInstance();
         File reportsDir = new File(System.getProperty("user.dir") + "/reports");
         if (!reportsDir.exists()) {
@@ -434,88 +435,55 @@ public class BaseTest {
     }
 
     /**
-     * Configura un nuevo WebDriver para cada test method.
-     * Inicializa ChromeDriver con configuración completa para evitar alertas y popups.
+     * Obtiene un WebDriver del pool para cada test method.
+     * El navegador puede ser reutilizado de un test anterior, ya limpio de cookies y storage.
+     * Aplica el bloqueo de red global y el definido en {@link BlockRequests} del test.
      */
     @BeforeMethod
-    public void setUp() {
-        WebDriverManager.chromedriver().setup();
-
-        ChromeOptions options = new ChromeOptions();
-
-        // ============ CONFIGURACIÓN PARA DESACTIVAR ALERTAS DE CONTRASEÑA ============
-
-        // Argumentos de línea de comandos para Chrome
-        options.addArguments("--disable-save-password-bubble");
-        options.addArguments("--disable-password-manager-reauthentication");
-        options.addArguments("--disable-password-generation");
-        options.addArguments("--disable-features=VizDisplayCompositor");
-
-        // Desactivar otras notificaciones y popups
-        options.addArguments("--disable-notifications");
-        options.addArguments("--disable-popup-blocking");
-        options.addArguments("--disable-default-apps");
-        options.addArguments("--disable-extensions");
-        options.addArguments("--disable-infobars");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--no-sandbox");
-
-        // Desactivar la barra de "Chrome está siendo controlado por software automatizado"
-        options.setExperimentalOption("useAutomationExtension", false);
-        options.setExperimentalOption("excludeSwitches", Arrays.asList("enable-automation"));
-
-        // ============ CONFIGURACIÓN DE PREFERENCIAS DEL NAVEGADOR ============
-
-        Map<String, Object> prefs = new HashMap<>();
-
-        // Desactivar administrador de contraseñas
-        prefs.put("credentials_enable_service", false);
-        prefs.put("profile.password_manager_enabled", false);
-        prefs.put("profile.password_manager_leak_detection", false);
-
-        // Desactivar notificaciones
-        prefs.put("profile.default_content_setting_values.notifications", 2);
-        prefs.put("profile.default_content_settings.popups", 0);
-
-        // Desactivar formularios de autocompletado
-        prefs.put("profile.default_content_setting_values.automatic_downloads", 1);
-        prefs.put("autofill.profile_enabled", false);
-        prefs.put("autofill.credit_card_enabled", false);
-
-        // Configuraciones adicionales de privacidad
-        prefs.put("profile.default_content_setting_values.geolocation", 2);
-        prefs.put("profile.default_content_setting_values.media_stream", 2);
-
-        options.setExperimentalOption("prefs", prefs);
-
-        // ============ INICIALIZACIÓN DEL DRIVER ============
-
-        WebDriver driver = new ChromeDriver(options);
-        driver.manage().window().maximize();
+    public void setUp(Method method) {
+        long start = System.nanoTime();
+        WebDriver driver = DriverPool.acquire();
+        driverWaitThreadLocal.set((System.nanoTime() - start) / 1_000_000);
+        NetworkBlocker.applyForTest(driver, method);
 
         driverThreadLocal.set(driver);
         pendingStepsThreadLocal.set(new ArrayList<>());
-
-        System.out.println("✅ Chrome configurado sin alertas de contraseña");
+        capturePolicyThreadLocal.set(CapturePolicy.forTest(method));
     }
 
     /**
      * Limpia recursos después de cada test method.
-     * Cierra el WebDriver y limpia ThreadLocal variables.
+     * Devuelve el WebDriver al pool y limpia ThreadLocal variables.
      */
     @AfterMethod
     public void tearDown() {
+        // Los resúmenes se escriben después de los steps que todavía están en la cola de screenshots
+        ScreenshotPipeline.awaitTest(ExtentManager.getTest());
         WebDriver driver = driverThreadLocal.get();
         if (driver != null) {
-            driver.quit();
+            reportWaitStats(driver);
+            DriverPool.release(driver);
             driverThreadLocal.remove();
         }
         pendingStepsThreadLocal.remove();
+        driverWaitThreadLocal.remove();
+        capturePolicyThreadLocal.remove();
+        reportSleepTime();
         ExtentManager.removeTest();
     }
 
     @AfterSuite
     public void tearDownSuite() {
+        DriverPool.shutdown();
+        // Espera los cierres pendientes y elimina procesos de Chrome que hayan quedado huérfanos
+        DriverReaper.drain();
+        WaitEngine.getSuiteStats().forEach((condition, stats) ->
+                System.out.println("⏱ " + condition + ": " + stats));
+        ScreenshotPipeline.drain();
+        String screenshotSummary = ScreenshotStore.getSummary();
+        if (screenshotSummary != null) {
+            System.out.println("📷 " + screenshotSummary);
+        }
         ExtentManager.flushReport();
     }
 
@@ -523,7 +491,7 @@ public class BaseTest {
     public void afterTestMethod() {
         WebDriver driver = driverThreadLocal.get();
         if (driver != null) {
-            driver.quit();
+            DriverPool.release(driver);
             driverThreadLocal.remove();
         }
     }
@@ -542,6 +510,69 @@ public class BaseTest {
         return driver;
     }
 
+    /**
+     * Obtiene cuántos milisegundos esperó el test actual para recibir su WebDriver.
+     *
+     * @return tiempo de espera en ms, o null si el driver aún no fue asignado
+     */
+    public static Long getDriverWaitMillis() {
+        return driverWaitThreadLocal.get();
+    }
+
+    /**
+     * Obtiene cuántas peticiones de red se bloquearon durante el test actual.
+     *
+     * @return peticiones bloqueadas, o -1 si el navegador no permite contarlas
+     */
+    public static int getBlockedRequestCount() {
+        return NetworkBlocker.getBlockedCount(getDriver());
+    }
+
+    /**
+     * Obtiene la política de screenshots del test actual (ver {@link CaptureScreenshots}).
+     *
+     * @return política del test, o la global de report.screenshots.policy fuera de un test
+     */
+    public static CapturePolicy getCapturePolicy() {
+        CapturePolicy policy = capturePolicyThreadLocal.get();
+        if (policy == null) {
+            policy = CapturePolicy.forTest(null);
+            capturePolicyThreadLocal.set(policy);
+        }
+        return policy;
+    }
+
+    /**
+     * Registra tiempo consumido en pausas fijas por el test actual.
+     *
+     * @param millis milisegundos de la pausa
+     */
+    public static void recordSleep(long millis) {
+        Long total = sleepThreadLocal.get();
+        sleepThreadLocal.set(total == null ? millis : total + millis);
+    }
+
+    /**
+     * Agrega al reporte cuántas esperas y polls hizo el test actual.
+     */
+    private static void reportWaitStats(WebDriver driver) {
+        String summary = WaitEngine.forDriver(driver).takeTestSummary();
+        if (summary != null && ExtentManager.getTest() != null) {
+            ExtentManager.getTest().log(Status.INFO, summary);
+        }
+    }
+
+    /**
+     * Agrega al reporte el tiempo total en pausas fijas del test, si hubo alguna.
+     */
+    private static void reportSleepTime() {
+        Long total = sleepThreadLocal.get();
+        sleepThreadLocal.remove();
+        if (total != null && total > 0 && ExtentManager.getTest() != null) {
+            ExtentManager.getTest().log(Status.WARNING, "Pausas fijas en este test: " + total + " ms");
+        }
+    }
+
     private static List<PendingStep> getPendingSteps() {
         List<PendingStep> steps = pendingStepsThreadLocal.get();
         if (steps == null) {
@@ -613,14 +644,7 @@ public class BaseTest {
                 PendingStep lastStep = steps.get(steps.size() - 1);
                 String mergedMessage = lastStep.getDescription() + "<br>" + failureDescription;
 
-                String failureScreenshot = null;
-                if (takeScreenshot) {
-                    try {
-                        failureScreenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
-                    } catch (Exception e) {
-                        System.err.println("Error capturando screenshot de fallo: " + e.getMessage());
-                    }
-                }
+                byte[] failureScreenshot = takeScreenshot ? captureScreenshot(mergedMessage, false, driver) : null;
                 writeStepWithCustomScreenshot(mergedMessage, false, failureScreenshot);
                 break;
 
@@ -632,53 +656,67 @@ public class BaseTest {
         steps.clear();
     }
 
+    /**
+     * Captura la pantalla como bytes PNG en el hilo del test, si la política del test lo permite.
+     * Con last-K la captura queda en memoria y el step se escribe sin imagen.
+     *
+     * @return bytes de la captura para adjuntar al step, o null si no corresponde adjuntar imagen
+     */
+    private static byte[] captureForStep(String description, boolean isPassed, WebDriver driver) {
+        CapturePolicy policy = getCapturePolicy();
+        switch (policy.decide(isPassed)) {
+            case SKIP:
+                return null;
+            case REMEMBER:
+                policy.remember(description, ScreenshotPipeline.capture(driver));
+                return null;
+            default:
+                return ScreenshotPipeline.capture(driver);
+        }
+    }
+
+    /**
+     * Igual que {@link #captureForStep} pero sin propagar errores de captura.
+     *
+     * @return bytes de la captura, o null si no corresponde o no se pudo capturar
+     */
+    private static byte[] captureScreenshot(String description, boolean isPassed, WebDriver driver) {
+        try {
+            return captureForStep(description, isPassed, driver);
+        } catch (Exception e) {
+            System.err.println("Error capturando screenshot: " + e.getMessage());
+            return null;
+        }
+    }
+
     private static void writeStepDirectlyWithStoredScreenshot(PendingStep step) {
-        if (ExtentManager.getTest() == null) {
+        ExtentTest test = ExtentManager.getTest();
+        if (test == null) {
             System.err.println("No hay test activo para crear step: " + step.getDescription());
             return;
         }
 
         Status status = step.isPassed() ? Status.PASS : Status.FAIL;
-
-        if (step.shouldTakeScreenshot() && step.getScreenshotBase64() != null) {
-            try {
-                String styleName = step.isPassed() ? "success" : "error";
-                String imageHtml = ScreenshotUtils.generateScreenshotHtml(
-                        step.getScreenshotBase64(), styleName, step.getDescription());
-                ExtentManager.getTest().log(status, step.getDescription() + "<br>" + imageHtml);
-            } catch (Exception e) {
-                ExtentManager.getTest().log(status, step.getDescription());
-                ExtentManager.getTest().log(Status.WARNING, "Error mostrando screenshot: " + e.getMessage());
-            }
-        } else {
-            ExtentManager.getTest().log(status, step.getDescription());
-        }
+        String styleName = step.isPassed() ? "success" : "error";
+        ScreenshotPipeline.write(test, status, step.getDescription(),
+                step.shouldTakeScreenshot() ? step.getScreenshot() : null, styleName);
     }
 
-    private static void writeStepWithCustomScreenshot(String stepDescription, boolean isPassed, String screenshotBase64) {
-        if (ExtentManager.getTest() == null) {
+    private static void writeStepWithCustomScreenshot(String stepDescription, boolean isPassed, byte[] screenshot) {
+        ExtentTest test = ExtentManager.getTest();
+        if (test == null) {
             System.err.println("No hay test activo para crear step: " + stepDescription);
             return;
         }
 
         Status status = isPassed ? Status.PASS : Status.FAIL;
-
-        if (screenshotBase64 != null) {
-            try {
-                String styleName = isPassed ? "success" : "error";
-                String imageHtml = ScreenshotUtils.generateScreenshotHtml(screenshotBase64, styleName, stepDescription);
-                ExtentManager.getTest().log(status, stepDescription + "<br>" + imageHtml);
-            } catch (Exception e) {
-                ExtentManager.getTest().log(status, stepDescription);
-                ExtentManager.getTest().log(Status.WARNING, "Error mostrando screenshot: " + e.getMessage());
-            }
-        } else {
-            ExtentManager.getTest().log(status, stepDescription);
-        }
+        String styleName = isPassed ? "success" : "error";
+        ScreenshotPipeline.write(test, status, stepDescription, screenshot, styleName);
     }
 
     private static void writeStepDirectly(String stepDescription, boolean isPassed, boolean takeScreenshot, WebDriver driver) {
-        if (ExtentManager.getTest() == null) {
+        ExtentTest test = ExtentManager.getTest();
+        if (test == null) {
             System.err.println("No hay test activo para crear step: " + stepDescription);
             return;
         }
@@ -687,16 +725,15 @@ public class BaseTest {
 
         if (takeScreenshot && driver != null) {
             try {
-                String base64Screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+                byte[] screenshot = captureForStep(stepDescription, isPassed, driver);
                 String styleName = isPassed ? "success" : "error";
-                String imageHtml = ScreenshotUtils.generateScreenshotHtml(base64Screenshot, styleName, stepDescription);
-                ExtentManager.getTest().log(status, stepDescription + "<br>" + imageHtml);
+                ScreenshotPipeline.write(test, status, stepDescription, screenshot, styleName);
             } catch (Exception e) {
-                ExtentManager.getTest().log(status, stepDescription);
-                ExtentManager.getTest().log(Status.WARNING, ScreenshotUtils.getErrorMessage() + ": " + e.getMessage());
+                ScreenshotPipeline.write(test, status, stepDescription);
+                ScreenshotPipeline.write(test, Status.WARNING, ScreenshotUtils.getErrorMessage() + ": " + e.getMessage());
             }
         } else {
-            ExtentManager.getTest().log(status, stepDescription);
+            ScreenshotPipeline.write(test, status, stepDescription);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package basetest;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Patrones de URL a bloquear durante un test, adicionales a network.block.patterns.
+ * Admite comodines "*" con la misma sintaxis de Network.setBlockedURLs de Chrome DevTools.
+ *
+ * <pre>
+ * &#64;Test
+ * &#64;BlockRequests({"*.jpg", "*.png"})
+ * public void testInventarioSinImagenes() { ... }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface BlockRequests {
+
+    /** Patrones de URL a bloquear */
+    String[] value() default {};
+
+    /** true para ignorar la lista global y usar solo los patrones del test */
+    boolean replaceDefaults() default false;
+}
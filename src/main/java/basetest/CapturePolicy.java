@@ -0,0 +1,174 @@
+package basetest;
+
+import utils.FrameworkConfig;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decide qué steps de un test llevan screenshot, sin cambiar los createStep(..., takeScreenshot, ...) existentes:
+ * un step solo se captura si lo pide y la política lo permite.
+ * <ul>
+ *   <li>always: todos los steps que lo piden (comportamiento original)</li>
+ *   <li>on-failure: solo los steps fallidos, más una captura final si el test falla</li>
+ *   <li>every-N: uno de cada N steps que lo piden (el 1°, el N+1°...), más los fallidos y la captura final</li>
+ *   <li>last-K: guarda en memoria las últimas K capturas y solo las escribe en el reporte si el test falla</li>
+ * </ul>
+ * Se configura con report.screenshots.policy y se puede cambiar por clase o por test con {@link CaptureScreenshots}.
+ */
+public final class CapturePolicy {
+
+    private static final String DEFAULT_POLICY = FrameworkConfig.get("report.screenshots.policy", "always");
+
+    /**
+     * Modos de captura disponibles.
+     */
+    public enum Mode { ALWAYS, ON_FAILURE, EVERY_NTH, LAST_K }
+
+    /**
+     * Qué hacer con un step que pide screenshot.
+     */
+    enum Decision {
+        /** Capturar y adjuntar al step */
+        CAPTURE,
+        /** Capturar y guardar en memoria; el step se escribe sin imagen */
+        REMEMBER,
+        /** No capturar */
+        SKIP
+    }
+
+    private final Mode mode;
+    /** N de every-N o K de last-K */
+    private final int size;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private int requested;
+
+    private CapturePolicy(Mode mode, int size) {
+        this.mode = mode;
+        this.size = size;
+    }
+
+    /**
+     * Crea la política de un test: la de su {@link CaptureScreenshots}, la de su clase o report.screenshots.policy.
+     *
+     * @param testMethod método de test, o null para usar la política global
+     */
+    static CapturePolicy forTest(Method testMethod) {
+        CaptureScreenshots annotation = null;
+        if (testMethod != null) {
+            annotation = Optional.ofNullable(testMethod.getAnnotation(CaptureScreenshots.class))
+                    .orElse(testMethod.getDeclaringClass().getAnnotation(CaptureScreenshots.class));
+        }
+        return parse(annotation == null ? DEFAULT_POLICY : annotation.value());
+    }
+
+    static CapturePolicy parse(String value) {
+        String policy = value.trim().toLowerCase();
+        try {
+            if (policy.equals("always")) {
+                return new CapturePolicy(Mode.ALWAYS, 0);
+            }
+            if (policy.equals("on-failure")) {
+                return new CapturePolicy(Mode.ON_FAILURE, 0);
+            }
+            if (policy.startsWith("every-")) {
+                return new CapturePolicy(Mode.EVERY_NTH, positive(policy.substring("every-".length())));
+            }
+            if (policy.startsWith("last-")) {
+                return new CapturePolicy(Mode.LAST_K, positive(policy.substring("last-".length())));
+            }
+        } catch (NumberFormatException e) {
+            // Se informa abajo con el mismo mensaje que un valor desconocido
+        }
+        throw new IllegalArgumentException(
+                "report.screenshots.policy debe ser always, on-failure, every-N o last-K: " + value);
+    }
+
+    private static int positive(String number) {
+        int value = Integer.parseInt(number);
+        if (value < 1) {
+            throw new NumberFormatException(number);
+        }
+        return value;
+    }
+
+    /**
+     * Decide si un step que pide screenshot se captura. Los steps fallidos siempre se capturan.
+     */
+    Decision decide(boolean isPassed) {
+        if (!isPassed) {
+            return Decision.CAPTURE;
+        }
+        switch (mode) {
+            case ON_FAILURE:
+                return Decision.SKIP;
+            case EVERY_NTH:
+                return requested++ % size == 0 ? Decision.CAPTURE : Decision.SKIP;
+            case LAST_K:
+                return Decision.REMEMBER;
+            default:
+                return Decision.CAPTURE;
+        }
+    }
+
+    /**
+     * Guarda una captura en memoria, descartando la más antigua si ya hay K.
+     */
+    void remember(String description, byte[] png) {
+        if (frames.size() == size) {
+            frames.removeFirst();
+        }
+        frames.addLast(new Frame(description, png));
+    }
+
+    /**
+     * Indica si al fallar el test hay que escribir las capturas guardadas y una captura final.
+     * Con always no hace falta: los steps ya tienen sus screenshots.
+     */
+    public boolean capturesOnTestFailure() {
+        return mode != Mode.ALWAYS;
+    }
+
+    /**
+     * Entrega las capturas guardadas en memoria, de la más antigua a la más reciente, y las libera.
+     */
+    public List<Frame> takeFrames() {
+        List<Frame> result = new ArrayList<>(frames);
+        frames.clear();
+        return result;
+    }
+
+    public Mode getMode() { return mode; }
+
+    @Override
+    public String toString() {
+        switch (mode) {
+            case EVERY_NTH:
+                return "every-" + size;
+            case LAST_K:
+                return "last-" + size;
+            default:
+                return mode.name().toLowerCase().replace('_', '-');
+        }
+    }
+
+    /**
+     * Captura guardada en memoria junto con la descripción del step que la produjo.
+     */
+    public static final class Frame {
+        private final String description;
+        private final byte[] png;
+
+        Frame(String description, byte[] png) {
+            this.description = description;
+            this.png = png;
+        }
+
+        public String getDescription() { return description; }
+        public byte[] getPng() { return png; }
+    }
+}
@@ -0,0 +1,24 @@
+package basetest;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Política de screenshots de un test o de todos los tests de una clase; reemplaza a report.screenshots.policy.
+ * Admite los mismos valores: always, on-failure, every-N o last-K (ver {@link CapturePolicy}).
+ *
+ * <pre>
+ * &#64;Test
+ * &#64;CaptureScreenshots("last-5")
+ * public void testCheckoutCompleto() { ... }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface CaptureScreenshots {
+
+    /** Política: always, on-failure, every-N o last-K */
+    String value();
+}
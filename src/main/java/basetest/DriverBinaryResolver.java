@@ -0,0 +1,143 @@
+package basetest;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.FrameworkConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Resuelve el binario de chromedriver una sola vez por JVM.
+ * Orden de resolución:
+ * 1. Ruta ya configurada en webdriver.chrome.driver o driver.binary.path.
+ * 2. Con driver.chrome.version fijada: binario de esa versión en el cache local (driver.cache.dir), sin acceso a red.
+ * 3. Con driver.offline=true y sin versión fijada: el binario más reciente del cache.
+ * 4. WebDriverManager, que elige la versión que corresponde al Chrome instalado y reutiliza su propio cache.
+ * Sin versión fijada y con red no se toma un binario cualquiera del cache: el cache puede tener versiones
+ * viejas o más nuevas (por ejemplo de Selenium Manager) que no coinciden con el Chrome instalado.
+ */
+public class DriverBinaryResolver {
+    private static final Logger logger = LoggerFactory.getLogger(DriverBinaryResolver.class);
+
+    private static final String CACHE_DIR = FrameworkConfig.get("driver.cache.dir",
+            System.getProperty("user.home") + File.separator + ".cache" + File.separator + "selenium");
+
+    private static volatile String resolvedPath;
+
+    /**
+     * Obtiene la ruta de chromedriver, resolviéndola solo en la primera llamada.
+     * Deja la ruta fijada en la propiedad webdriver.chrome.driver para que Selenium no vuelva a buscarla.
+     *
+     * @return ruta absoluta del binario de chromedriver
+     * @throws IllegalStateException si no se encuentra el binario en modo offline
+     */
+    public static String resolveChromeDriver() {
+        if (resolvedPath == null) {
+            synchronized (DriverBinaryResolver.class) {
+                if (resolvedPath == null) {
+                    String path = resolve();
+                    System.setProperty(ChromeDriverService.CHROME_DRIVER_EXE_PROPERTY, path);
+                    logger.info("chromedriver resuelto en {}", path);
+                    resolvedPath = path;
+                }
+            }
+        }
+        return resolvedPath;
+    }
+
+    private static String resolve() {
+        Optional<String> configured = findConfiguredBinary();
+        if (configured.isPresent()) {
+            return configured.get();
+        }
+
+        String version = FrameworkConfig.get("driver.chrome.version", "");
+        boolean offline = FrameworkConfig.getBoolean("driver.offline", false);
+        if (!version.isEmpty() || offline) {
+            Optional<String> cached = findCachedBinary(version);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        if (offline) {
+            throw new IllegalStateException("Modo offline: no se encontró chromedriver en " + CACHE_DIR
+                    + ". Configura driver.binary.path o copia el binario al cache.");
+        }
+
+        WebDriverManager manager = WebDriverManager.chromedriver().cachePath(CACHE_DIR);
+        if (!version.isEmpty()) {
+            manager.driverVersion(version);
+        }
+        manager.setup();
+        return manager.getDownloadedDriverPath();
+    }
+
+    private static Optional<String> findConfiguredBinary() {
+        String[] candidates = {
+                System.getProperty(ChromeDriverService.CHROME_DRIVER_EXE_PROPERTY),
+                FrameworkConfig.get("driver.binary.path", null)
+        };
+        for (String candidate : candidates) {
+            if (candidate != null && isExecutable(Paths.get(candidate))) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Busca un chromedriver ya descargado dentro del cache. Si se fijó una versión, solo acepta binarios
+     * con un directorio de esa versión en su ruta (ej: "120" o "120.0.6099.109" aceptan .../120.0.6099.109/chromedriver,
+     * pero "12" no); si no, toma el más reciente.
+     */
+    private static Optional<String> findCachedBinary(String version) {
+        Path cacheDir = Paths.get(CACHE_DIR);
+        if (!Files.isDirectory(cacheDir)) {
+            return Optional.empty();
+        }
+
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            return files
+                    .filter(path -> isChromeDriverName(path.getFileName().toString()))
+                    .filter(DriverBinaryResolver::isExecutable)
+                    .filter(path -> version.isEmpty() || hasVersionSegment(cacheDir.relativize(path), version))
+                    .max(Comparator.comparingLong(path -> path.toFile().lastModified()))
+                    .map(path -> path.toAbsolutePath().toString());
+        } catch (IOException e) {
+            logger.warn("No se pudo leer el cache de drivers {}: {}", CACHE_DIR, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Indica si algún directorio de la ruta es la versión indicada o una versión que empieza con ella
+     * componente a componente.
+     */
+    private static boolean hasVersionSegment(Path path, String version) {
+        for (Path segment : path) {
+            String name = segment.toString();
+            if (name.equals(version) || name.startsWith(version + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isChromeDriverName(String fileName) {
+        return fileName.equals("chromedriver") || fileName.equals("chromedriver.exe");
+    }
+
+    private static boolean isExecutable(Path path) {
+        return Files.isRegularFile(path) && Files.isExecutable(path);
+    }
+}
@@ -0,0 +1,125 @@
+package basetest;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fábrica de instancias de WebDriver.
+ * Centraliza la configuración de ChromeOptions para que el pool de drivers
+ * y BaseTest creen navegadores con la misma configuración.
+ * Las opciones se construyen una sola vez como plantilla y cada sesión recibe una copia.
+ */
+public class DriverFactory {
+
+    /** Identificador de esta ejecución; permite reconocer los procesos de Chrome que lanzó esta JVM */
+    static final String RUN_ID = UUID.randomUUID().toString().substring(0, 8);
+
+    private static final AtomicInteger sessionCounter = new AtomicInteger();
+    /** Marca agregada a la línea de comandos de cada Chrome, usada para eliminar sus procesos si queda huérfano */
+    private static final Map<WebDriver, String> sessionTags = new ConcurrentHashMap<>();
+
+    /** Opciones comunes a todas las sesiones; nunca se modifica ni se entrega directamente */
+    private static final ChromeOptions OPTIONS_TEMPLATE = buildOptionsTemplate();
+
+    /**
+     * Crea un nuevo ChromeDriver con configuración completa para evitar alertas y popups.
+     *
+     * @return nueva instancia de WebDriver lista para usar
+     */
+    public static WebDriver createDriver() {
+        DriverBinaryResolver.resolveChromeDriver();
+
+        ChromeOptions options = new ChromeOptions().merge(OPTIONS_TEMPLATE);
+
+        // Chrome ignora switches desconocidos, pero quedan visibles en la línea de comandos del proceso
+        String sessionTag = RUN_ID + "-" + sessionCounter.incrementAndGet() + ".";
+        options.addArguments("--automation-session=" + sessionTag);
+        ProfileTemplate.cloneForSession(sessionTag)
+                .ifPresent(profileDir -> options.addArguments("--user-data-dir=" + profileDir));
+
+        WebDriver driver = DriverServiceManager.createSession(options);
+        sessionTags.put(driver, sessionTag);
+        ExecutionProfile.current().applyTo(driver);
+
+        System.out.println("✅ Chrome configurado sin alertas de contraseña");
+        return driver;
+    }
+
+    /**
+     * Obtiene y olvida la marca de proceso de un driver que se va a cerrar.
+     */
+    static String removeSessionTag(WebDriver driver) {
+        return sessionTags.remove(driver);
+    }
+
+    private static ChromeOptions buildOptionsTemplate() {
+        ChromeOptions options = buildChromeOptions();
+        ExecutionProfile.current().applyTo(options);
+        NetworkBlocker.applyAllowList(options);
+        return options;
+    }
+
+    private static ChromeOptions buildChromeOptions() {
+        ChromeOptions options = new ChromeOptions();
+
+        // ============ CONFIGURACIÓN PARA DESACTIVAR ALERTAS DE CONTRASEÑA ============
+
+        // Argumentos de línea de comandos para Chrome
+        options.addArguments("--disable-save-password-bubble");
+        options.addArguments("--disable-password-manager-reauthentication");
+        options.addArguments("--disable-password-generation");
+        options.addArguments("--disable-features=VizDisplayCompositor");
+
+        // Desactivar otras notificaciones y popups
+        options.addArguments("--disable-notifications");
+        options.addArguments("--disable-popup-blocking");
+        options.addArguments("--disable-default-apps");
+        options.addArguments("--disable-extensions");
+        options.addArguments("--disable-infobars");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--no-sandbox");
+
+        // Evitar el asistente de primer inicio en perfiles nuevos
+        options.addArguments("--no-first-run");
+        options.addArguments("--no-default-browser-check");
+
+        // Desactivar la barra de "Chrome está siendo controlado por software automatizado"
+        options.setExperimentalOption("useAutomationExtension", false);
+        options.setExperimentalOption("excludeSwitches", Arrays.asList("enable-automation"));
+
+        // ============ CONFIGURACIÓN DE PREFERENCIAS DEL NAVEGADOR ============
+
+        Map<String, Object> prefs = new HashMap<>();
+
+        // Desactivar administrador de contraseñas
+        prefs.put("credentials_enable_service", false);
+        prefs.put("profile.password_manager_enabled", false);
+        prefs.put("profile.password_manager_leak_detection", false);
+
+        // Desactivar notificaciones
+        prefs.put("profile.default_content_setting_values.notifications", 2);
+        prefs.put("profile.default_content_settings.popups", 0);
+
+        // Desactivar formularios de autocompletado
+        prefs.put("profile.default_content_setting_values.automatic_downloads", 1);
+        prefs.put("autofill.profile_enabled", false);
+        prefs.put("autofill.credit_card_enabled", false);
+
+        // Configuraciones adicionales de privacidad
+        prefs.put("profile.default_content_setting_values.geolocation", 2);
+        prefs.put("profile.default_content_setting_values.media_stream", 2);
+
+        // Las copias por sesión comparten este mapa, por eso se expone como solo lectura
+        options.setExperimentalOption("prefs", Collections.unmodifiableMap(prefs));
+
+        return options;
+    }
+}
@@ -0,0 +1,271 @@
+package basetest;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.FrameworkConfig;
+import utils.WaitEngine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool de WebDriver compartido por toda la suite.
+ * Entre tests limpia el estado del navegador (cookies, localStorage, sessionStorage y ventanas extra)
+ * y lo entrega al siguiente test, evitando pagar el arranque de Chrome en cada @BeforeMethod.
+ * Un navegador se reemplaza al alcanzar el máximo de reutilizaciones o si falla el health check.
+ * Opcionalmente mantiene navegadores pre-calentados (driver.pool.warmSize) que se arrancan
+ * en segundo plano y se reponen a medida que los tests los consumen.
+ */
+public class DriverPool {
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+
+    private static final boolean POOL_ENABLED = FrameworkConfig.getBoolean("driver.pool.enabled", true);
+    private static final int MAX_REUSE = FrameworkConfig.getInt("driver.pool.maxReuse", 20);
+    private static final int WARM_SIZE = FrameworkConfig.getInt("driver.pool.warmSize", 0);
+    private static final int WARM_WAIT_SECONDS = FrameworkConfig.getInt("driver.pool.warmWaitSeconds", 60);
+    /** Cada cuánto se revisa, mientras se espera un navegador pre-calentado, si todavía hay arranques en curso */
+    private static final long WARM_POLL_MILLIS = 200;
+
+    /** Navegadores libres; se usa como pila para entregar primero el más reciente */
+    private static final BlockingDeque<WebDriver> idleDrivers = new LinkedBlockingDeque<>();
+    /** Cantidad de tests ejecutados por cada navegador vivo */
+    private static final Map<WebDriver, Integer> usageCount = new ConcurrentHashMap<>();
+    /** Navegadores que se están arrancando en segundo plano */
+    private static final AtomicInteger warmingUp = new AtomicInteger();
+
+    private static volatile ExecutorService warmUpExecutor;
+    /** Se activa al iniciar shutdown(); desde ese momento no se arrancan más navegadores pre-calentados */
+    private static volatile boolean shuttingDown;
+
+    /**
+     * Arranca en segundo plano los navegadores pre-calentados configurados en driver.pool.warmSize.
+     * Se invoca desde @BeforeSuite; no bloquea al hilo que la llama.
+     */
+    public static void prewarm() {
+        for (int i = 0; i < WARM_SIZE; i++) {
+            startWarmUp();
+        }
+    }
+
+    /**
+     * Entrega un navegador sano del pool o crea uno nuevo si no hay disponibles.
+     * Si hay navegadores arrancando en segundo plano, espera por ellos en vez de crear otro.
+     *
+     * @return WebDriver listo para un nuevo test
+     */
+    public static WebDriver acquire() {
+        try {
+            WebDriver driver;
+            while ((driver = nextIdleDriver()) != null) {
+                if (isHealthy(driver)) {
+                    return driver;
+                }
+                logger.warn("Navegador del pool no responde, se reemplaza por uno nuevo");
+                discard(driver);
+            }
+
+            driver = DriverFactory.createDriver();
+            usageCount.put(driver, 0);
+            return driver;
+        } finally {
+            refillWarmPool();
+        }
+    }
+
+    /**
+     * Toma un navegador libre. Si no hay pero se están arrancando navegadores pre-calentados, espera
+     * por ellos en intervalos cortos y deja de esperar apenas no quede ningún arranque en curso
+     * (porque falló o porque otro test tomó el navegador), para crear uno propio sin demora.
+     */
+    private static WebDriver nextIdleDriver() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARM_WAIT_SECONDS);
+        try {
+            while (true) {
+                WebDriver driver = idleDrivers.pollFirst();
+                if (driver != null) {
+                    return driver;
+                }
+                // El navegador se agrega al pool antes de descontar el arranque, así que no se pierde ninguno
+                if (warmingUp.get() == 0 || System.nanoTime() >= deadline) {
+                    return idleDrivers.pollFirst();
+                }
+                driver = idleDrivers.pollFirst(WARM_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (driver != null) {
+                    return driver;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Repone de forma asíncrona los navegadores pre-calentados consumidos por los tests.
+     */
+    private static void refillWarmPool() {
+        while (WARM_SIZE > 0 && !shuttingDown && idleDrivers.size() + warmingUp.get() < WARM_SIZE) {
+            if (!startWarmUp()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Encola el arranque de un navegador pre-calentado.
+     *
+     * @return false si no se encoló porque el pool se está cerrando
+     */
+    private static boolean startWarmUp() {
+        if (shuttingDown) {
+            return false;
+        }
+        warmingUp.incrementAndGet();
+        try {
+            getWarmUpExecutor().submit(() -> {
+                try {
+                    WebDriver driver = DriverFactory.createDriver();
+                    usageCount.put(driver, 0);
+                    idleDrivers.offerLast(driver);
+                } catch (Exception e) {
+                    logger.warn("No se pudo pre-calentar un navegador: {}", e.getMessage());
+                } finally {
+                    warmingUp.decrementAndGet();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            warmingUp.decrementAndGet();
+            return false;
+        }
+    }
+
+    private static ExecutorService getWarmUpExecutor() {
+        if (warmUpExecutor == null) {
+            synchronized (DriverPool.class) {
+                if (warmUpExecutor == null) {
+                    warmUpExecutor = Executors.newFixedThreadPool(Math.max(1, Math.min(WARM_SIZE, 4)), runnable -> {
+                        Thread thread = new Thread(runnable, "driver-warmup");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return warmUpExecutor;
+    }
+
+    /**
+     * Devuelve un navegador al pool después de un test.
+     * Si superó el máximo de reutilizaciones o no se pudo limpiar, se cierra.
+     *
+     * @param driver navegador usado por el test
+     */
+    public static void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+
+        int uses = usageCount.merge(driver, 1, Integer::sum);
+        if (!POOL_ENABLED || uses >= MAX_REUSE || !resetState(driver)) {
+            discard(driver);
+            return;
+        }
+        idleDrivers.offerFirst(driver);
+    }
+
+    /**
+     * Cierra todos los navegadores libres del pool. Se invoca al finalizar la suite.
+     */
+    public static void shutdown() {
+        shuttingDown = true;
+        if (warmUpExecutor != null) {
+            warmUpExecutor.shutdown();
+            try {
+                warmUpExecutor.awaitTermination(WARM_WAIT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        WebDriver driver;
+        while ((driver = idleDrivers.pollFirst()) != null) {
+            discard(driver);
+        }
+    }
+
+    /**
+     * Verifica que la sesión siga viva y que el navegador pueda ejecutar JavaScript.
+     */
+    static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            Object result = ((JavascriptExecutor) driver).executeScript("return 1;");
+            return result != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Deja el navegador como recién abierto: una sola ventana, sin cookies ni web storage, en about:blank.
+     *
+     * @return true si la limpieza terminó y el navegador sigue sano
+     */
+    private static boolean resetState(WebDriver driver) {
+        try {
+            closeExtraWindows(driver);
+
+            // El storage solo es accesible desde el origen que lo creó, por eso se limpia antes de salir de la página
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+
+            // deleteAllCookies solo afecta al dominio actual; CDP limpia las cookies de todos los dominios
+            if (driver instanceof HasCdp) {
+                ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+            }
+            driver.manage().deleteAllCookies();
+
+            driver.get("about:blank");
+            return isHealthy(driver);
+        } catch (Exception e) {
+            logger.warn("No se pudo limpiar el navegador para reutilizarlo: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void closeExtraWindows(WebDriver driver) {
+        List<String> handles = new ArrayList<>(driver.getWindowHandles());
+        if (handles.size() <= 1) {
+            return;
+        }
+
+        String mainHandle = handles.get(0);
+        for (String handle : handles.subList(1, handles.size())) {
+            driver.switchTo().window(handle);
+            driver.close();
+        }
+        driver.switchTo().window(mainHandle);
+    }
+
+    private static void discard(WebDriver driver) {
+        usageCount.remove(driver);
+        NetworkBlocker.forget(driver);
+        WaitEngine.forget(driver);
+        NetworkIdleMonitor.forget(driver);
+        DriverReaper.dispose(driver);
+    }
+}
@@ -0,0 +1,106 @@
+package basetest;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.FrameworkConfig;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cierra navegadores en segundo plano para que driver.quit() no bloquee al siguiente test.
+ * Además elimina procesos huérfanos de chromedriver/Chrome: los de una sesión cuyo quit() falló
+ * y, al drenar en @AfterSuite, cualquier proceso de esta ejecución que siga vivo.
+ */
+public class DriverReaper {
+    private static final Logger logger = LoggerFactory.getLogger(DriverReaper.class);
+
+    private static final int DRAIN_SECONDS = FrameworkConfig.getInt("driver.reaper.drainSeconds", 60);
+
+    private static final ExecutorService reaper = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "driver-reaper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Encola el cierre del navegador y retorna inmediatamente.
+     *
+     * @param driver navegador a cerrar
+     */
+    public static void dispose(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        String sessionTag = DriverFactory.removeSessionTag(driver);
+        try {
+            reaper.submit(() -> quit(driver, sessionTag));
+        } catch (Exception e) {
+            // El reaper ya fue drenado: se cierra en el hilo actual
+            quit(driver, sessionTag);
+        }
+    }
+
+    /**
+     * Espera a que terminen los cierres pendientes, detiene los chromedriver compartidos
+     * y elimina los procesos que hayan quedado vivos.
+     * Se invoca desde @AfterSuite.
+     */
+    public static void drain() {
+        reaper.shutdown();
+        try {
+            if (!reaper.awaitTermination(DRAIN_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("El cierre de navegadores superó {} s, se forzará la eliminación de procesos", DRAIN_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        DriverServiceManager.stopAll();
+        killOrphans();
+        ProfileTemplate.cleanUp();
+    }
+
+    private static void quit(WebDriver driver, String sessionTag) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.warn("Error cerrando navegador, se eliminarán sus procesos: {}", e.getMessage());
+            killMatching(sessionTag);
+        }
+        ProfileTemplate.deleteSessionProfile(sessionTag);
+    }
+
+    /**
+     * Elimina los procesos de Chrome marcados con el id de esta ejecución y los chromedriver hijos de la JVM.
+     */
+    static void killOrphans() {
+        killMatching(DriverFactory.RUN_ID);
+
+        ProcessHandle.current().descendants()
+                .filter(process -> commandLine(process).map(cmd -> cmd.contains("chromedriver")).orElse(false))
+                .forEach(DriverReaper::destroyTree);
+    }
+
+    private static void killMatching(String marker) {
+        if (marker == null) {
+            return;
+        }
+        ProcessHandle.allProcesses()
+                .filter(process -> commandLine(process).map(cmd -> cmd.contains(marker)).orElse(false))
+                .forEach(DriverReaper::destroyTree);
+    }
+
+    private static void destroyTree(ProcessHandle process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        if (process.destroyForcibly()) {
+            logger.info("Proceso huérfano eliminado: pid {}", process.pid());
+        }
+    }
+
+    private static Optional<String> commandLine(ProcessHandle process) {
+        return process.info().commandLine();
+    }
+}
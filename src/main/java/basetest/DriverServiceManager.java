@@ -0,0 +1,91 @@
+package basetest;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.FrameworkConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Decide contra qué proceso de chromedriver se crea cada sesión (driver.service.mode):
+ * per-session: un chromedriver por navegador, comportamiento estándar de ChromeDriver.
+ * shared: un único ChromeDriverService por JVM que aloja todas las sesiones.
+ * per-thread: un ChromeDriverService por hilo de TestNG.
+ */
+public class DriverServiceManager {
+    private static final Logger logger = LoggerFactory.getLogger(DriverServiceManager.class);
+
+    private static final String SERVICE_MODE = FrameworkConfig.get("driver.service.mode", "per-session").toLowerCase();
+
+    private static final ThreadLocal<ChromeDriverService> threadService = new ThreadLocal<>();
+    /** Todos los servicios iniciados, para detenerlos al finalizar la suite */
+    private static final Queue<ChromeDriverService> startedServices = new ConcurrentLinkedQueue<>();
+
+    private static ChromeDriverService sharedService;
+
+    /**
+     * Crea una sesión de Chrome según el modo de servicio configurado.
+     *
+     * @param options opciones completas de la sesión
+     * @return nueva sesión de WebDriver
+     */
+    public static WebDriver createSession(ChromeOptions options) {
+        switch (SERVICE_MODE) {
+            case "shared":
+                return new SharedServiceChromeDriver(getSharedService(), options);
+            case "per-thread":
+                return new SharedServiceChromeDriver(getThreadService(), options);
+            default:
+                return new ChromeDriver(options);
+        }
+    }
+
+    /**
+     * Detiene todos los servicios compartidos. Debe llamarse después de cerrar todas las sesiones.
+     */
+    public static void stopAll() {
+        ChromeDriverService service;
+        while ((service = startedServices.poll()) != null) {
+            try {
+                service.stop();
+            } catch (Exception e) {
+                logger.warn("Error deteniendo chromedriver: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static synchronized ChromeDriverService getSharedService() {
+        if (sharedService == null || !sharedService.isRunning()) {
+            sharedService = startService();
+        }
+        return sharedService;
+    }
+
+    private static ChromeDriverService getThreadService() {
+        ChromeDriverService service = threadService.get();
+        if (service == null || !service.isRunning()) {
+            service = startService();
+            threadService.set(service);
+        }
+        return service;
+    }
+
+    private static ChromeDriverService startService() {
+        ChromeDriverService service = ChromeDriverService.createDefaultService();
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo iniciar chromedriver", e);
+        }
+        startedServices.add(service);
+        logger.info("chromedriver compartido iniciado en {}", service.getUrl());
+        return service;
+    }
+}
@@ -0,0 +1,131 @@
+package basetest;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import utils.FrameworkConfig;
+
+/**
+ * Perfil de ejecución del navegador: modo headed/headless, tamaño de viewport y device scale factor.
+ * Se selecciona con execution.profile (local | ci) y cada valor puede ajustarse individualmente
+ * con headless, browser.viewport (ej: 1366x768) y browser.scaleFactor.
+ * browser.pageLoadStrategy (normal | eager | none) define cuándo driver.get() devuelve el control.
+ */
+public class ExecutionProfile {
+
+    private static final ExecutionProfile CURRENT = fromConfig();
+
+    private final String name;
+    private final boolean headless;
+    /** Tamaño fijo de ventana; null para maximizar como en ejecución local */
+    private final Dimension viewport;
+    /** Device scale factor forzado; 0 para usar el del sistema */
+    private final double scaleFactor;
+    /** Con eager o none la espera de carga queda a cargo de los contratos de cada página */
+    private final PageLoadStrategy pageLoadStrategy;
+
+    private ExecutionProfile(String name, boolean headless, Dimension viewport, double scaleFactor,
+                             PageLoadStrategy pageLoadStrategy) {
+        this.name = name;
+        this.headless = headless;
+        this.viewport = viewport;
+        this.scaleFactor = scaleFactor;
+        this.pageLoadStrategy = pageLoadStrategy;
+    }
+
+    /**
+     * Obtiene el perfil configurado para esta ejecución.
+     */
+    public static ExecutionProfile current() {
+        return CURRENT;
+    }
+
+    private static ExecutionProfile fromConfig() {
+        String name = FrameworkConfig.get("execution.profile", "local").toLowerCase();
+
+        // Valores base del perfil: "ci" es headless con un viewport fijo y escala 1
+        boolean ci = name.equals("ci");
+        boolean headless = FrameworkConfig.getBoolean("headless", ci);
+        Dimension viewport = parseViewport(FrameworkConfig.get("browser.viewport", ci || headless ? "1366x768" : ""));
+        double scaleFactor = parseScaleFactor(FrameworkConfig.get("browser.scaleFactor", ci || headless ? "1" : "0"));
+        PageLoadStrategy pageLoadStrategy = parsePageLoadStrategy(FrameworkConfig.get("browser.pageLoadStrategy", "normal"));
+
+        return new ExecutionProfile(name, headless, viewport, scaleFactor, pageLoadStrategy);
+    }
+
+    private static Dimension parseViewport(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        String[] parts = value.toLowerCase().split("x");
+        try {
+            return new Dimension(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("browser.viewport debe tener el formato ANCHOxALTO: " + value, e);
+        }
+    }
+
+    private static double parseScaleFactor(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("browser.scaleFactor debe ser numérico: " + value, e);
+        }
+    }
+
+    private static PageLoadStrategy parsePageLoadStrategy(String value) {
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(value.trim().toLowerCase());
+        if (strategy == null) {
+            throw new IllegalArgumentException("browser.pageLoadStrategy debe ser normal, eager o none: " + value);
+        }
+        return strategy;
+    }
+
+    /**
+     * Agrega a las opciones de Chrome los argumentos del perfil.
+     *
+     * @param options opciones a completar antes de crear el driver
+     */
+    public void applyTo(ChromeOptions options) {
+        if (headless) {
+            options.addArguments("--headless=new");
+            options.addArguments("--hide-scrollbars");
+        }
+        if (viewport != null) {
+            options.addArguments("--window-size=" + viewport.getWidth() + "," + viewport.getHeight());
+        }
+        if (scaleFactor > 0) {
+            options.addArguments("--force-device-scale-factor=" + scaleFactor);
+        }
+        options.setPageLoadStrategy(pageLoadStrategy);
+    }
+
+    /**
+     * Ajusta la ventana de un driver recién creado. Sin viewport fijo se maximiza.
+     *
+     * @param driver driver recién creado
+     */
+    public void applyTo(WebDriver driver) {
+        if (viewport == null) {
+            driver.manage().window().maximize();
+        } else if (!headless) {
+            driver.manage().window().setSize(viewport);
+        }
+    }
+
+    public boolean isHeadless() { return headless; }
+    public Dimension getViewport() { return viewport; }
+    public double getScaleFactor() { return scaleFactor; }
+    public PageLoadStrategy getPageLoadStrategy() { return pageLoadStrategy; }
+
+    /**
+     * Descripción legible del perfil para el reporte.
+     */
+    public String describe() {
+        return name + " (" + (headless ? "headless" : "headed")
+                + ", viewport " + (viewport == null ? "maximizado" : viewport.getWidth() + "x" + viewport.getHeight())
+                + (scaleFactor > 0 ? ", escala " + scaleFactor : "")
+                + (pageLoadStrategy != PageLoadStrategy.NORMAL ? ", carga " + pageLoadStrategy : "") + ")";
+    }
+}
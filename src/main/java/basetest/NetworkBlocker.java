@@ -0,0 +1,176 @@
+package basetest;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.FrameworkConfig;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Bloqueo de peticiones de red (imágenes, fuentes, analytics) que ningún test valida.
+ * La lista de bloqueo se aplica con Network.setBlockedURLs de Chrome DevTools y puede ampliarse
+ * o reemplazarse por test con {@link BlockRequests}. La lista de hosts permitidos
+ * (network.allow.hosts) se aplica al lanzar Chrome, resolviendo cualquier otro host como inexistente.
+ */
+public class NetworkBlocker {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkBlocker.class);
+
+    private static final List<String> DEFAULT_PATTERNS = splitList(FrameworkConfig.get("network.block.patterns", ""));
+    private static final List<String> ALLOWED_HOSTS = splitList(FrameworkConfig.get("network.allow.hosts", ""));
+
+    private static final Map<WebDriver, BlockState> states = new ConcurrentHashMap<>();
+
+    /**
+     * Estado de bloqueo de un navegador: patrones activos y peticiones bloqueadas en el test actual.
+     */
+    private static class BlockState {
+        private DevTools devTools;
+        private List<String> activePatterns = Collections.emptyList();
+        private final AtomicInteger blockedCount = new AtomicInteger();
+    }
+
+    /**
+     * Agrega a las opciones de Chrome la lista de hosts permitidos, si está configurada.
+     *
+     * @param options plantilla de opciones de Chrome
+     */
+    static void applyAllowList(ChromeOptions options) {
+        if (ALLOWED_HOSTS.isEmpty()) {
+            return;
+        }
+        StringBuilder rules = new StringBuilder("MAP * ~NOTFOUND , EXCLUDE localhost , EXCLUDE 127.0.0.1");
+        for (String host : ALLOWED_HOSTS) {
+            rules.append(" , EXCLUDE ").append(host);
+        }
+        options.addArguments("--host-resolver-rules=" + rules);
+    }
+
+    /**
+     * Aplica los patrones de bloqueo que corresponden al test y reinicia el contador de bloqueos.
+     * Si los patrones no cambiaron respecto al test anterior del mismo navegador, no envía comandos.
+     *
+     * @param driver navegador asignado al test
+     * @param testMethod método de test, para leer {@link BlockRequests}
+     */
+    public static void applyForTest(WebDriver driver, Method testMethod) {
+        List<String> patterns = patternsFor(testMethod);
+        BlockState state = states.computeIfAbsent(driver, key -> new BlockState());
+        state.blockedCount.set(0);
+
+        if (patterns.equals(state.activePatterns)) {
+            return;
+        }
+        try {
+            setBlockedUrls(driver, state, patterns);
+            state.activePatterns = patterns;
+        } catch (Exception e) {
+            logger.warn("No se pudo aplicar el bloqueo de red: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Obtiene cuántas peticiones se bloquearon en el test actual.
+     *
+     * @param driver navegador del test
+     * @return peticiones bloqueadas, o -1 si DevTools no está disponible para contarlas
+     */
+    public static int getBlockedCount(WebDriver driver) {
+        BlockState state = states.get(driver);
+        if (state == null) {
+            return 0;
+        }
+        if (state.devTools == null && !state.activePatterns.isEmpty()) {
+            return -1;
+        }
+        return state.blockedCount.get();
+    }
+
+    /**
+     * Olvida el estado de un navegador que se va a cerrar.
+     */
+    static void forget(WebDriver driver) {
+        states.remove(driver);
+    }
+
+    private static List<String> patternsFor(Method testMethod) {
+        BlockRequests annotation = null;
+        if (testMethod != null) {
+            annotation = Optional.ofNullable(testMethod.getAnnotation(BlockRequests.class))
+                    .orElse(testMethod.getDeclaringClass().getAnnotation(BlockRequests.class));
+        }
+        if (annotation == null) {
+            return DEFAULT_PATTERNS;
+        }
+
+        Set<String> patterns = new LinkedHashSet<>();
+        if (!annotation.replaceDefaults()) {
+            patterns.addAll(DEFAULT_PATTERNS);
+        }
+        patterns.addAll(Arrays.asList(annotation.value()));
+        return new ArrayList<>(patterns);
+    }
+
+    private static void setBlockedUrls(WebDriver driver, BlockState state, List<String> patterns) {
+        Map<String, Object> params = Collections.singletonMap("urls", patterns);
+
+        DevTools devTools = openDevTools(driver, state);
+        if (devTools != null) {
+            devTools.send(new Command<Void>("Network.setBlockedURLs", params));
+        } else if (driver instanceof HasCdp) {
+            // Sin conexión DevTools se bloquea igual, pero no se pueden contar las peticiones
+            ((HasCdp) driver).executeCdpCommand("Network.enable", Collections.emptyMap());
+            ((HasCdp) driver).executeCdpCommand("Network.setBlockedURLs", params);
+        }
+    }
+
+    /**
+     * Abre (una sola vez por navegador) la sesión DevTools y escucha las peticiones bloqueadas.
+     */
+    private static DevTools openDevTools(WebDriver driver, BlockState state) {
+        if (state.devTools != null || !(driver instanceof HasDevTools)) {
+            return state.devTools;
+        }
+        Optional<DevTools> maybeDevTools = ((HasDevTools) driver).maybeGetDevTools();
+        if (!maybeDevTools.isPresent()) {
+            return null;
+        }
+
+        DevTools devTools = maybeDevTools.get();
+        devTools.createSessionIfThereIsNotOne(driver.getWindowHandle());
+        devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+        devTools.addListener(new Event<Map<String, Object>>("Network.loadingFailed",
+                input -> input.read(Json.MAP_TYPE)), event -> {
+            if (event.get("blockedReason") != null) {
+                state.blockedCount.incrementAndGet();
+            }
+        });
+        state.devTools = devTools;
+        return devTools;
+    }
+
+    private static List<String> splitList(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,171 @@
+package basetest;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.FrameworkConfig;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Sigue las navegaciones y las peticiones de red de un navegador a través de eventos de Chrome DevTools.
+ * Permite esperar a que una navegación se confirme y la red quede inactiva sin enviar comandos
+ * al navegador: el hilo del test duerme hasta que llegan los eventos.
+ */
+public class NetworkIdleMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkIdleMonitor.class);
+
+    /** Tiempo sin peticiones en curso para considerar la red inactiva */
+    private static final long QUIET_MILLIS = FrameworkConfig.getInt("network.idle.quietMillis", 100);
+    /** Conexiones de larga duración que nunca terminan y no deben impedir la inactividad */
+    private static final List<String> IGNORED_TYPES = Arrays.asList("WebSocket", "EventSource");
+
+    private static final Map<WebDriver, Optional<NetworkIdleMonitor>> monitors = new ConcurrentHashMap<>();
+
+    /** Peticiones en curso: requestId → loaderId del documento que las inició */
+    private final Map<String, String> inflightRequests = new HashMap<>();
+    private long navigations;
+    private long lastActivityNanos = System.nanoTime();
+
+    private NetworkIdleMonitor() {
+    }
+
+    /**
+     * Obtiene el monitor de un navegador, conectándolo la primera vez.
+     *
+     * @param driver instancia de WebDriver activa
+     * @return monitor, o vacío si el navegador no expone DevTools
+     */
+    public static Optional<NetworkIdleMonitor> forDriver(WebDriver driver) {
+        return monitors.computeIfAbsent(driver, NetworkIdleMonitor::attach);
+    }
+
+    /**
+     * Olvida el monitor de un navegador que se va a cerrar.
+     */
+    static void forget(WebDriver driver) {
+        monitors.remove(driver);
+    }
+
+    private static Optional<NetworkIdleMonitor> attach(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            return Optional.empty();
+        }
+        try {
+            Optional<DevTools> maybeDevTools = ((HasDevTools) driver).maybeGetDevTools();
+            if (!maybeDevTools.isPresent()) {
+                return Optional.empty();
+            }
+            DevTools devTools = maybeDevTools.get();
+            devTools.createSessionIfThereIsNotOne(driver.getWindowHandle());
+            devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+            devTools.send(new Command<Void>("Page.enable", Collections.emptyMap()));
+
+            NetworkIdleMonitor monitor = new NetworkIdleMonitor();
+            listen(devTools, "Network.requestWillBeSent", monitor::onRequestStarted);
+            listen(devTools, "Network.loadingFinished", monitor::onRequestEnded);
+            listen(devTools, "Network.loadingFailed", monitor::onRequestEnded);
+            listen(devTools, "Page.frameNavigated", monitor::onFrameNavigated);
+            listen(devTools, "Page.navigatedWithinDocument", params -> monitor.onNavigation());
+            return Optional.of(monitor);
+        } catch (Exception e) {
+            logger.warn("No se pudo conectar el monitor de red: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static void listen(DevTools devTools, String event, Consumer<Map<String, Object>> handler) {
+        devTools.addListener(new Event<Map<String, Object>>(event, input -> input.read(Json.MAP_TYPE)), handler);
+    }
+
+    /**
+     * Cantidad de navegaciones confirmadas hasta el momento; se toma antes de la acción que navega.
+     */
+    public synchronized long getNavigationCount() {
+        return navigations;
+    }
+
+    /**
+     * Espera a que se confirme una navegación posterior a la marca y que no haya peticiones
+     * en curso durante network.idle.quietMillis.
+     *
+     * @param navigationMark valor de {@link #getNavigationCount()} antes de la acción
+     * @param timeout tiempo máximo de espera
+     * @throws TimeoutException si la navegación no se confirma o la red no queda inactiva a tiempo
+     */
+    public synchronized void awaitSettled(long navigationMark, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            long now = System.nanoTime();
+            long waitMillis = (deadline - now) / 1_000_000;
+
+            boolean committed = navigations > navigationMark;
+            if (committed && inflightRequests.isEmpty()) {
+                long quietFor = (now - lastActivityNanos) / 1_000_000;
+                if (quietFor >= QUIET_MILLIS) {
+                    return;
+                }
+                waitMillis = Math.min(waitMillis, QUIET_MILLIS - quietFor);
+            }
+
+            if (now >= deadline) {
+                throw new TimeoutException(String.format("La navegación no se completó en %d ms (%s, %d peticiones en curso)",
+                        timeout.toMillis(), committed ? "confirmada" : "sin confirmar", inflightRequests.size()));
+            }
+            try {
+                wait(Math.max(1, waitMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TimeoutException("Espera de navegación interrumpida", e);
+            }
+        }
+    }
+
+    private synchronized void onRequestStarted(Map<String, Object> params) {
+        if (!IGNORED_TYPES.contains(params.get("type"))) {
+            inflightRequests.put((String) params.get("requestId"), String.valueOf(params.get("loaderId")));
+            touch();
+        }
+    }
+
+    private synchronized void onRequestEnded(Map<String, Object> params) {
+        if (inflightRequests.remove(params.get("requestId")) != null) {
+            touch();
+        }
+    }
+
+    private synchronized void onFrameNavigated(Map<String, Object> params) {
+        Object frame = params.get("frame");
+        // Solo cuenta el frame principal; los iframes traen parentId
+        if (frame instanceof Map && ((Map<?, ?>) frame).get("parentId") == null) {
+            // Las peticiones del documento anterior ya no cuentan aunque no haya llegado su evento de cierre
+            String loaderId = String.valueOf(((Map<?, ?>) frame).get("loaderId"));
+            inflightRequests.values().removeIf(requestLoader -> !requestLoader.equals(loaderId));
+            onNavigation();
+        }
+    }
+
+    private synchronized void onNavigation() {
+        navigations++;
+        touch();
+    }
+
+    private void touch() {
+        lastActivityNanos = System.nanoTime();
+        notifyAll();
+    }
+}
@@ -0,0 +1,92 @@
+package basetest;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import utils.FrameworkConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * Clona un user-data-dir de Chrome ya inicializado para cada sesión.
+ * Con browser.profile.template apuntando a un perfil creado previamente, Chrome no paga
+ * la creación del perfil ni el first-run en cada test. Las copias se guardan en
+ * browser.profile.workDir (por defecto /dev/shm, en memoria, si está disponible).
+ */
+public class ProfileTemplate {
+    private static final Logger logger = LoggerFactory.getLogger(ProfileTemplate.class);
+
+    private static final File TEMPLATE_DIR = resolveTemplateDir();
+    private static final Path RUN_DIR = resolveWorkDir().resolve("chrome-profiles-" + DriverFactory.RUN_ID);
+
+    private static File resolveTemplateDir() {
+        String path = FrameworkConfig.get("browser.profile.template", "");
+        if (path.isEmpty()) {
+            return null;
+        }
+        File dir = new File(path);
+        if (!dir.isDirectory()) {
+            logger.warn("browser.profile.template no existe ({}), se usará un perfil nuevo por sesión", path);
+            return null;
+        }
+        return dir;
+    }
+
+    private static Path resolveWorkDir() {
+        String configured = FrameworkConfig.get("browser.profile.workDir", "");
+        if (!configured.isEmpty()) {
+            return Paths.get(configured);
+        }
+        Path shm = Paths.get("/dev/shm");
+        return Files.isDirectory(shm) && Files.isWritable(shm) ? shm : Paths.get(System.getProperty("java.io.tmpdir"));
+    }
+
+    /**
+     * Copia el perfil plantilla para una nueva sesión.
+     *
+     * @param sessionTag marca única de la sesión
+     * @return ruta del perfil copiado, o vacío si no hay plantilla configurada o la copia falló
+     */
+    static Optional<Path> cloneForSession(String sessionTag) {
+        if (TEMPLATE_DIR == null) {
+            return Optional.empty();
+        }
+        File target = sessionDir(sessionTag);
+        try {
+            // Los archivos Singleton* son locks del Chrome que creó la plantilla y no deben copiarse
+            FileUtils.copyDirectory(TEMPLATE_DIR, target, file -> !file.getName().startsWith("Singleton"));
+            return Optional.of(target.toPath());
+        } catch (IOException e) {
+            logger.warn("No se pudo copiar el perfil plantilla: {}", e.getMessage());
+            FileUtils.deleteQuietly(target);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Elimina el perfil copiado de una sesión ya cerrada.
+     */
+    static void deleteSessionProfile(String sessionTag) {
+        if (TEMPLATE_DIR != null && sessionTag != null) {
+            FileUtils.deleteQuietly(sessionDir(sessionTag));
+        }
+    }
+
+    /**
+     * Elimina todas las copias de perfil de esta ejecución.
+     */
+    static void cleanUp() {
+        if (TEMPLATE_DIR != null) {
+            FileUtils.deleteQuietly(RUN_DIR.toFile());
+        }
+    }
+
+    private static File sessionDir(String sessionTag) {
+        return RUN_DIR.resolve(sessionTag.replace(".", "")).toFile();
+    }
+}
@@ -0,0 +1,32 @@
+package basetest;
+
+import org.openqa.selenium.chrome.AddHasCasting;
+import org.openqa.selenium.chrome.AddHasCdp;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ChromeDriver que se conecta a un ChromeDriverService ya iniciado y compartido con otras sesiones.
+ * A diferencia de ChromeDriver, quit() solo cierra la sesión y deja el servicio vivo para la siguiente.
+ * Mantiene los comandos específicos de Chrome (CDP y casting).
+ */
+class SharedServiceChromeDriver extends ChromiumDriver {
+
+    SharedServiceChromeDriver(DriverService service, ChromeOptions options) {
+        super(new HttpCommandExecutor(chromeCommands(), service.getUrl()), options, ChromeOptions.CAPABILITY);
+        casting = new AddHasCasting().getImplementation(getCapabilities(), getExecuteMethod());
+        cdp = new AddHasCdp().getImplementation(getCapabilities(), getExecuteMethod());
+    }
+
+    private static Map<String, CommandInfo> chromeCommands() {
+        Map<String, CommandInfo> commands = new HashMap<>(new AddHasCdp().getAdditionalCommands());
+        commands.putAll(new AddHasCasting().getAdditionalCommands());
+        return commands;
+    }
+}
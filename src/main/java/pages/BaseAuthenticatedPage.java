@@ -2,6 +2,7 @@ package pages;
 
 import basetest.BaseTest;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import utils.LoginHelper;
 
 /**
@@ -27,6 +28,8 @@ public abstract class BaseAuthenticatedPage extends BasePage {
     /**
      * Navega a la página realizando login automático si es necesario.
      * Sobrescribe el metodo goTo() de BasePage para incluir autenticación.
+     * Si hay una sesión guardada se inyecta y la propia navegación a la página la valida:
+     * restaurar la sesión no agrega cargas de página. Si la validación falla se hace login por interfaz.
      *
      * @throws InterruptedException si el hilo es interrumpido durante la navegación
      * @throws RuntimeException si no se definieron las propiedades requeridas o si falla el login
@@ -38,7 +41,21 @@ public abstract class BaseAuthenticatedPage extends BasePage {
             if (pageUrl == null || validationLocator == null || pageName == null) {
                 throw new RuntimeException("La página debe definir pageUrl, validationLocator y pageName");
             }
-            LoginHelper.ensureUserLoggedIn(driver);
+            if (!LoginHelper.isUserLoggedIn(driver) && LoginHelper.injectSession(driver)) {
+                boolean loaded = true;
+                try {
+                    navigate();
+                } catch (WebDriverException e) {
+                    loaded = false;
+                }
+                if (LoginHelper.confirmSession(driver, loaded)) {
+                    return;
+                }
+                // La URL puede parecer autenticada aunque la sesión no sirva: login sin más comprobaciones
+                LoginHelper.performLogin(driver);
+            } else {
+                LoginHelper.ensureUserLoggedIn(driver);
+            }
             super.goTo();
 
         } catch (Exception e) {
@@ -2,16 +2,29 @@ package pages;
 
 import basetest.BaseTest;
 import basetest.BaseTest.StepMode;
+import basetest.ExecutionProfile;
+import basetest.NetworkIdleMonitor;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import utils.FrameworkConfig;
+import utils.WaitEngine;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Clase base simplificada para Page Object sin manejo de popups.
@@ -22,18 +35,67 @@ import java.time.Duration;
  */
 public abstract class BasePage {
     protected WebDriver driver;
-    protected WebDriverWait wait;
+    /** Motor de esperas compartido por todas las páginas del mismo driver */
+    protected WaitEngine wait;
     private static final Logger logger = LoggerFactory.getLogger(BasePage.class);
 
+    /** Tiempo sin cambios en el DOM para considerar la página estable */
+    private static final long QUIET_MILLIS = FrameworkConfig.getInt("wait.stability.quietMillis", 100);
+
+    /**
+     * Instala (una vez por documento) un MutationObserver que registra el último cambio del DOM
+     * y devuelve el estado actual: carga del documento, animaciones en curso, tiempo sin cambios y URL.
+     * Las animaciones infinitas (spinners decorativos) no se consideran pendientes.
+     */
+    private static final String STABILITY_SCRIPT =
+            "if (!window.__stabilityObserver) {" +
+            "  window.__lastMutation = performance.now();" +
+            "  window.__stabilityObserver = new MutationObserver(function() { window.__lastMutation = performance.now(); });" +
+            "  window.__stabilityObserver.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "}" +
+            "var running = document.getAnimations ? document.getAnimations().filter(function(a) {" +
+            "  return a.playState === 'running' && a.effect && a.effect.getComputedTiming().iterations !== Infinity;" +
+            "}).length : 0;" +
+            "return { ready: document.readyState !== 'loading', animations: running," +
+            "  quietFor: performance.now() - window.__lastMutation, url: location.href };";
+
+    /**
+     * Completa cada campo con el setter nativo de value (el que usan los navegadores al tipear, así
+     * React y similares registran el cambio) y dispara focus, input, change y blur como lo haría un usuario.
+     * Devuelve los índices de los campos que no se encontraron.
+     */
+    private static final String FILL_SCRIPT = ScriptLocators.FIND_FUNCTION +
+            "var missing = [];" +
+            "arguments[0].forEach(function(field, index) {" +
+            "  var el = find(field.using, field.value);" +
+            "  if (!el) { missing.push(index); return; }" +
+            "  el.focus();" +
+            "  var setter = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(el), 'value');" +
+            "  if (setter && setter.set) { setter.set.call(el, field.text); } else { el.value = field.text; }" +
+            "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  el.blur();" +
+            "});" +
+            "return missing;";
+
+    /** Lee el valor actual de todos los campos en una sola llamada */
+    private static final String READ_VALUES_SCRIPT = ScriptLocators.FIND_FUNCTION +
+            "return arguments[0].map(function(field) {" +
+            "  var el = find(field.using, field.value);" +
+            "  return el ? el.value : null;" +
+            "});";
+
     /** URL de la página - debe ser definida por cada página hija */
     protected String pageUrl;
     /** Localizador para validar que la página cargó correctamente */
     protected By validationLocator;
     /** Nombre descriptivo de la página para reportes */
     protected String pageName;
+    /** Condiciones adicionales a validationLocator que la página exige para considerarse lista */
+    private final List<ExpectedCondition<?>> readinessConditions = new ArrayList<>();
 
     /**
-     * Inicializa la página base con WebDriver y configura WebDriverWait.
+     * Inicializa la página base con WebDriver y obtiene su motor de esperas.
      *
      * @param driver instancia de WebDriver activa
      * @throws IllegalArgumentException si driver es null
@@ -43,22 +105,62 @@ public abstract class BasePage {
             throw new IllegalArgumentException("webdriver no puede ser null. ");
         }
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait = WaitEngine.forDriver(driver);
     }
 
     /**
      * Pausa la ejecución por el tiempo especificado.
+     * Preferir {@link #waitForStable()}; el tiempo en pausas fijas se reporta en cada test.
      *
      * @param seconds tiempo de pausa en segundos
      */
     public static void pause(int seconds) {
+        BaseTest.recordSleep(seconds * 1000L);
         try {
-            Thread.sleep(seconds * 1000);
+            Thread.sleep(seconds * 1000L);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
     }
 
+    /**
+     * Espera a que la página quede estable después de una acción: documento cargado, DOM sin cambios
+     * durante wait.stability.quietMillis, sin animaciones en curso y la misma URL en dos lecturas seguidas.
+     * Reemplaza las pausas fijas "para estabilidad" después de clicks y navegaciones.
+     */
+    protected void waitForStable() {
+        String[] lastUrl = {null};
+        wait.until("estabilidad de la página", d -> {
+            Map<?, ?> state;
+            try {
+                state = (Map<?, ?>) ((JavascriptExecutor) d).executeScript(STABILITY_SCRIPT);
+            } catch (WebDriverException e) {
+                // El documento se está reemplazando; se vuelve a intentar en el siguiente ciclo
+                lastUrl[0] = null;
+                return false;
+            }
+            String url = (String) state.get("url");
+            boolean urlSettled = url.equals(lastUrl[0]);
+            lastUrl[0] = url;
+
+            return urlSettled
+                    && Boolean.TRUE.equals(state.get("ready"))
+                    && ((Number) state.get("animations")).intValue() == 0
+                    && ((Number) state.get("quietFor")).doubleValue() >= QUIET_MILLIS;
+        }, Duration.ofSeconds(15));
+    }
+
+    /**
+     * Agrega una condición al contrato de carga de la página.
+     * Con browser.pageLoadStrategy eager o none, validationLocator y estas condiciones
+     * son lo único que se espera antes de interactuar con la página.
+     *
+     * @param condition condición que debe cumplirse después de encontrar validationLocator
+     */
+    protected void addReadinessCondition(ExpectedCondition<?> condition) {
+        readinessConditions.add(condition);
+    }
+
     /**
      * Navega a la página de forma simple y directa.
      *
@@ -74,11 +176,7 @@ public abstract class BasePage {
 
             //BaseTest.createStep("Navegando a " + pageName, true, false, StepMode.IMMEDIATE);
 
-            // Navegar a la página
-            driver.get(pageUrl);
-
-            // Validar que la página cargó
-            wait.until(ExpectedConditions.presenceOfElementLocated(validationLocator));
+            navigate();
 
             //BaseTest.createStep("Página " + pageName + " cargada correctamente", true, true, StepMode.IMMEDIATE);
 
@@ -88,6 +186,112 @@ public abstract class BasePage {
         }
     }
 
+    /**
+     * Navega a pageUrl y espera el contrato de carga de la página, sin registrar steps.
+     *
+     * @throws TimeoutException si la página no cumple su contrato de carga
+     */
+    protected void navigate() {
+        // Con estrategia none, driver.get() vuelve antes de reemplazar el documento anterior
+        WebElement previousDocument = ExecutionProfile.current().getPageLoadStrategy() == PageLoadStrategy.NONE
+                ? findDocumentRoot() : null;
+
+        driver.get(pageUrl);
+
+        if (previousDocument != null) {
+            wait.until(ExpectedConditions.stalenessOf(previousDocument));
+        }
+
+        // Validar que la página cargó
+        waitUntilReady();
+    }
+
+    /**
+     * Espera el contrato de carga de la página: validationLocator y las condiciones adicionales.
+     */
+    protected void waitUntilReady() {
+        wait.until(ExpectedConditions.presenceOfElementLocated(validationLocator));
+        for (ExpectedCondition<?> condition : readinessConditions) {
+            wait.until(condition);
+        }
+    }
+
+    /**
+     * Ejecuta una acción que provoca una navegación y espera la señal real de fin: navegación
+     * confirmada y red inactiva, según los eventos de DevTools. Sin DevTools, espera el cambio
+     * de URL y document.readyState completo.
+     *
+     * @param action acción que navega (normalmente un click)
+     */
+    protected void navigateAndSettle(Runnable action) {
+        Optional<NetworkIdleMonitor> monitor = NetworkIdleMonitor.forDriver(driver);
+        if (monitor.isPresent()) {
+            long navigationMark = monitor.get().getNavigationCount();
+            action.run();
+            monitor.get().awaitSettled(navigationMark, Duration.ofSeconds(15));
+            return;
+        }
+
+        String previousUrl = driver.getCurrentUrl();
+        action.run();
+        wait.until("navegación desde " + previousUrl, d -> !previousUrl.equals(d.getCurrentUrl())
+                && "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState;")),
+                Duration.ofSeconds(15));
+    }
+
+    /**
+     * Espera el primero de dos desenlaces posibles después de una acción: la condición de éxito
+     * o un mensaje de error visible. Devuelve en cuanto ocurre cualquiera de los dos, sin agotar
+     * la espera del desenlace que no llega.
+     *
+     * @param successCondition condición que indica que la acción fue exitosa
+     * @param errorLocator localizador del mensaje de error de la página
+     * @param timeout tiempo máximo de espera
+     * @return SUCCESS, ERROR con el texto del mensaje, o UNKNOWN si no ocurrió ninguno
+     */
+    protected PageOutcome awaitOutcome(ExpectedCondition<?> successCondition, By errorLocator, Duration timeout) {
+        try {
+            return wait.until("desenlace: " + successCondition, d -> {
+                Object success = successCondition.apply(d);
+                if (success != null && !Boolean.FALSE.equals(success)) {
+                    return PageOutcome.success();
+                }
+                for (WebElement error : d.findElements(errorLocator)) {
+                    if (error.isDisplayed()) {
+                        return PageOutcome.error(error.getText());
+                    }
+                }
+                return null;
+            }, timeout);
+        } catch (TimeoutException e) {
+            return PageOutcome.unknown();
+        }
+    }
+
+    /**
+     * Espera a que se cumplan todas las condiciones agrupadas. Con wait.mode=push la espera ocurre
+     * dentro del navegador y responde apenas se cumplen; si no es posible, se evalúan en un solo
+     * executeScript por poll.
+     *
+     * @param conditions condiciones de presencia, visibilidad y clickeabilidad
+     * @throws TimeoutException con las condiciones que seguían sin cumplirse
+     */
+    protected void waitForAll(BatchCondition conditions) {
+        try {
+            wait.untilPushed(conditions.toString(), conditions::await, conditions);
+        } catch (TimeoutException e) {
+            throw new TimeoutException("Condiciones sin cumplir: " + conditions.getLastFailing(), e);
+        }
+    }
+
+    private WebElement findDocumentRoot() {
+        try {
+            return driver.findElement(By.tagName("html"));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     /**
      * Click básico con espera y reporte.
      */
@@ -129,6 +333,75 @@ public abstract class BasePage {
         }
     }
 
+    /**
+     * Completa varios campos de un formulario con un solo script y los verifica con una sola lectura,
+     * en lugar de esperar, limpiar y tipear cada campo por separado. Los campos cuyo valor no quedó
+     * como se esperaba (ej: un componente que ignora eventos sintéticos) se reintentan con sendKeys.
+     *
+     * @param fields campo → valor, en el orden en que se deben completar
+     * @param description descripción del único step que se registra
+     * @param mode modo de registro del step
+     * @throws RuntimeException si algún campo no existe o no quedó con el valor indicado
+     */
+    protected void fillForm(Map<By, String> fields, String description, StepMode mode) {
+        try {
+            List<By> locators = new ArrayList<>(fields.keySet());
+            BatchCondition editable = BatchCondition.create();
+            List<Map<String, Object>> scriptFields = new ArrayList<>();
+            for (By locator : locators) {
+                editable.clickable(locator);
+                Map<String, Object> scriptField = ScriptLocators.toScriptLocator(locator);
+                scriptField.put("text", fields.get(locator));
+                scriptFields.add(scriptField);
+            }
+            waitForAll(editable);
+
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            List<?> missing = (List<?>) js.executeScript(FILL_SCRIPT, scriptFields);
+            if (!missing.isEmpty()) {
+                throw new NoSuchElementException("Campos no encontrados: " + locatorsAt(locators, missing));
+            }
+
+            Map<By, String> mismatched = findMismatched(fields, locators, scriptFields);
+            if (!mismatched.isEmpty()) {
+                logger.debug("Reintentando con sendKeys los campos {}", mismatched.keySet());
+                for (Map.Entry<By, String> field : mismatched.entrySet()) {
+                    WebElement element = driver.findElement(field.getKey());
+                    element.clear();
+                    element.sendKeys(field.getValue());
+                }
+                mismatched = findMismatched(fields, locators, scriptFields);
+                if (!mismatched.isEmpty()) {
+                    throw new IllegalStateException("Campos con un valor distinto al ingresado: " + mismatched.keySet());
+                }
+            }
+            BaseTest.createStep(description, true, true, mode);
+        } catch (Exception e) {
+            BaseTest.createStep("Error: " + description + " - " + e.getMessage(), false, true, mode);
+            throw new RuntimeException("Completar formulario falló: " + e.getMessage(), e);
+        }
+    }
+
+    private Map<By, String> findMismatched(Map<By, String> fields, List<By> locators, List<Map<String, Object>> scriptFields) {
+        List<?> values = (List<?>) ((JavascriptExecutor) driver).executeScript(READ_VALUES_SCRIPT, scriptFields);
+        Map<By, String> mismatched = new LinkedHashMap<>();
+        for (int i = 0; i < locators.size(); i++) {
+            By locator = locators.get(i);
+            if (!fields.get(locator).equals(values.get(i))) {
+                mismatched.put(locator, fields.get(locator));
+            }
+        }
+        return mismatched;
+    }
+
+    private static List<By> locatorsAt(List<By> locators, List<?> indexes) {
+        List<By> result = new ArrayList<>();
+        for (Object index : indexes) {
+            result.add(locators.get(((Number) index).intValue()));
+        }
+        return result;
+    }
+
     /**
      * Valida una condición con reporte.
      */
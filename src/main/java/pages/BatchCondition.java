@@ -0,0 +1,174 @@
+package pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conjunto de condiciones de presencia, visibilidad, clickeabilidad y URL que se evalúan todas juntas
+ * en un solo executeScript por poll, en lugar de uno o más comandos WebDriver por condición.
+ * También pueden esperarse dentro del navegador con {@link #await(WebDriver, long)}.
+ *
+ * <pre>
+ * waitForAll(BatchCondition.create()
+ *         .visible(sideMenu)
+ *         .clickable(logoutButton));
+ * </pre>
+ */
+public final class BatchCondition implements ExpectedCondition<Boolean> {
+
+    /**
+     * Define evaluate(checks), que devuelve los índices de las condiciones que aún no se cumplen.
+     * La visibilidad sigue el mismo criterio de Selenium: display, visibility, opacidad y tamaño.
+     */
+    private static final String EVALUATE_FUNCTION = ScriptLocators.FIND_FUNCTION +
+            "function visible(el) {" +
+            "  for (var node = el; node && node.nodeType === 1; node = node.parentElement) {" +
+            "    var style = getComputedStyle(node);" +
+            "    if (style.display === 'none' || parseFloat(style.opacity) === 0) return false;" +
+            "  }" +
+            "  var rect = el.getBoundingClientRect();" +
+            "  return getComputedStyle(el).visibility !== 'hidden' && rect.width > 0 && rect.height > 0;" +
+            "}" +
+            "function evaluate(checks) {" +
+            "  var failing = [];" +
+            "  checks.forEach(function(check, index) {" +
+            "    var ok;" +
+            "    if (check.type === 'url') {" +
+            "      ok = location.href.indexOf(check.value) >= 0;" +
+            "    } else {" +
+            "      var el = find(check.using, check.value);" +
+            "      ok = !!el && (check.type === 'present' || (visible(el) && (check.type === 'visible' || !el.disabled)));" +
+            "    }" +
+            "    if (!ok) failing.push(index);" +
+            "  });" +
+            "  return failing;" +
+            "}";
+
+    private static final String EVALUATE_SCRIPT = EVALUATE_FUNCTION + "return evaluate(arguments[0]);";
+
+    /**
+     * Reevalúa las condiciones ante cada cambio del DOM, fin de transición/animación o cambio de URL,
+     * y responde apenas se cumplen todas o al vencer arguments[1] ms.
+     * Un chequeo cada 250 ms dentro del navegador cubre cambios de estilo que no generan mutaciones.
+     */
+    private static final String AWAIT_SCRIPT = EVALUATE_FUNCTION +
+            "var checks = arguments[0], done = arguments[arguments.length - 1];" +
+            "var events = ['transitionend', 'animationend', 'popstate', 'hashchange'];" +
+            "var finished = false, observer, timer, safety;" +
+            "function finish() {" +
+            "  if (finished) return;" +
+            "  finished = true;" +
+            "  observer.disconnect();" +
+            "  clearTimeout(timer);" +
+            "  clearInterval(safety);" +
+            "  events.forEach(function(e) { window.removeEventListener(e, check, true); });" +
+            "  done(evaluate(checks));" +
+            "}" +
+            "function check() { if (!finished && evaluate(checks).length === 0) finish(); }" +
+            "observer = new MutationObserver(check);" +
+            "observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "events.forEach(function(e) { window.addEventListener(e, check, true); });" +
+            "safety = setInterval(check, 250);" +
+            "timer = setTimeout(finish, arguments[1]);" +
+            "check();";
+
+    private final List<Map<String, Object>> checks = new ArrayList<>();
+    private final List<String> descriptions = new ArrayList<>();
+    private List<String> lastFailing = Collections.emptyList();
+
+    private BatchCondition() {
+    }
+
+    public static BatchCondition create() {
+        return new BatchCondition();
+    }
+
+    /** El elemento existe en el DOM */
+    public BatchCondition present(By locator) {
+        return add("present", locator);
+    }
+
+    /** El elemento existe y es visible */
+    public BatchCondition visible(By locator) {
+        return add("visible", locator);
+    }
+
+    /** El elemento es visible y está habilitado, mismo criterio que ExpectedConditions.elementToBeClickable */
+    public BatchCondition clickable(By locator) {
+        return add("clickable", locator);
+    }
+
+    /** La URL actual contiene el texto indicado */
+    public BatchCondition urlContains(String fraction) {
+        Map<String, Object> check = new HashMap<>();
+        check.put("type", "url");
+        check.put("value", fraction);
+        checks.add(check);
+        descriptions.add("url contiene " + fraction);
+        return this;
+    }
+
+    private BatchCondition add(String type, By locator) {
+        Map<String, Object> check = ScriptLocators.toScriptLocator(locator);
+        check.put("type", type);
+        checks.add(check);
+        descriptions.add(type + " " + locator);
+        return this;
+    }
+
+    /**
+     * Evalúa todas las condiciones en una sola llamada al navegador.
+     *
+     * @param driver instancia de WebDriver activa
+     * @return descripción de las condiciones que aún no se cumplen; vacía si se cumplen todas
+     */
+    public List<String> failing(WebDriver driver) {
+        return toDescriptions(((JavascriptExecutor) driver).executeScript(EVALUATE_SCRIPT, checks));
+    }
+
+    /**
+     * Espera dentro del navegador a que se cumplan todas las condiciones, con un solo executeAsyncScript.
+     *
+     * @param driver instancia de WebDriver activa
+     * @param maxMillis tiempo máximo que el script queda esperando
+     * @return true si se cumplieron todas las condiciones
+     */
+    public boolean await(WebDriver driver, long maxMillis) {
+        return toDescriptions(((JavascriptExecutor) driver).executeAsyncScript(AWAIT_SCRIPT, checks, maxMillis)).isEmpty();
+    }
+
+    private List<String> toDescriptions(Object failingIndexes) {
+        List<?> indexes = (List<?>) failingIndexes;
+        List<String> result = new ArrayList<>();
+        for (Object index : indexes) {
+            result.add(descriptions.get(((Number) index).intValue()));
+        }
+        lastFailing = result;
+        return result;
+    }
+
+    @Override
+    public Boolean apply(WebDriver driver) {
+        return failing(driver).isEmpty();
+    }
+
+    /**
+     * Condiciones que fallaron en la última evaluación.
+     */
+    public List<String> getLastFailing() {
+        return lastFailing;
+    }
+
+    @Override
+    public String toString() {
+        return "todas las condiciones " + descriptions;
+    }
+}
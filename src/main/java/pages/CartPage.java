@@ -42,11 +42,11 @@ public class CartPage extends BaseAuthenticatedPage{
     public void goToCheckoutForm() throws InterruptedException {
         try {
             WebElement checkout = wait.until(ExpectedConditions.elementToBeClickable(checkoutButton));
-            checkout.click();
+            navigateAndSettle(checkout::click);
+            waitForAll(BatchCondition.create()
+                    .visible(cancelButton)
+                    .urlContains("checkout-step-one"));
             BaseTest.createStep("Se muestra la página de información del proceso de Checkout", true, true, IMMEDIATE);
-            wait.until(ExpectedConditions.visibilityOfElementLocated(cancelButton));
-            wait.until(ExpectedConditions.urlContains("checkout-step-one"));
-            Thread.sleep(500);
 
         }catch (Exception e){
             BaseTest.processBuffer(COMMIT_MERGED_FAILURE,"Error en mostrar opcion de Checkout", true);
@@ -22,7 +22,7 @@ public class CheckoutCompletePage extends BasePage{
     private final By checkoutButton = By.className("checkout_button");
 
     /**
-     * Inicializa la página base con WebDriver y configura WebDriverWait.
+     * Inicializa la página base con WebDriver y obtiene su motor de esperas.
      *
      * @param driver instancia de WebDriver activa
      * @throws IllegalArgumentException si driver es null
@@ -42,13 +42,10 @@ public class CheckoutCompletePage extends BasePage{
             menuButton.click();
 
             // Esperar múltiples condiciones para asegurar que el menú esté completamente listo
-            wait.until(ExpectedConditions.and(
-                    ExpectedConditions.visibilityOfElementLocated(sideMenu),
-                    ExpectedConditions.visibilityOfElementLocated(inventoryButton),
-                    ExpectedConditions.elementToBeClickable(inventoryButton),
-                    ExpectedConditions.elementToBeClickable(logoutButton),
-                    ExpectedConditions.visibilityOfElementLocated(logoutButton)
-            ));
+            waitForAll(BatchCondition.create()
+                    .visible(sideMenu)
+                    .clickable(inventoryButton)
+                    .clickable(logoutButton));
 
             BaseTest.createStep("Menú hamburguesa abierto exitosamente",
                     true, true, IMMEDIATE);
@@ -68,8 +65,9 @@ public class CheckoutCompletePage extends BasePage{
             WebElement allItemButton = wait.until(ExpectedConditions.elementToBeClickable(inventoryButton));
             allItemButton.click();
 
-            wait.until(ExpectedConditions.visibilityOfElementLocated(shoppingCartIcon));
-            wait.until(ExpectedConditions.presenceOfElementLocated(productLabel));
+            waitForAll(BatchCondition.create()
+                    .visible(shoppingCartIcon)
+                    .present(productLabel));
 
             BaseTest.createStep("Transición completada: ahora estás en el módulo de inventario.",
                     true, true, IMMEDIATE);
@@ -112,12 +110,11 @@ public class CheckoutCompletePage extends BasePage{
     public void goBackToCart() throws InterruptedException {
         try {
             WebElement cartIcon = wait.until(ExpectedConditions.elementToBeClickable(shoppingCartIcon));
-            cartIcon.click();
+            navigateAndSettle(cartIcon::click);
 
             wait.until(ExpectedConditions.visibilityOfElementLocated(checkoutButton));
 
             BaseTest.createStep("Navegación exitosa al carrito de compras", true, true, IMMEDIATE);
-            Thread.sleep(500);
 
         } catch (Exception e) {
             BaseTest.processBuffer(COMMIT_MERGED_FAILURE,
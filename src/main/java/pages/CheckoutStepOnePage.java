@@ -5,6 +5,10 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static basetest.BaseTest.StepMode.*;
 import static basetest.BaseTest.BufferAction.*;
 
@@ -35,25 +39,11 @@ public class CheckoutStepOnePage extends BasePage{
      * @param postalCode the postal code
      */
     public void completeCheckoutForm(String firstName, String lastName, String postalCode){
-        // Completar campo First Name
-        WebElement firstNameElement = wait.until(ExpectedConditions.elementToBeClickable(inputFirstName));
-        firstNameElement.clear();
-        firstNameElement.sendKeys(firstName);
-        BaseTest.createStep("Completando el campo First Name", true, true, IMMEDIATE);
-
-        // Completar campo Last Name
-        WebElement lastNameElement = wait.until(ExpectedConditions.elementToBeClickable(inputLastName));
-        lastNameElement.clear();
-        lastNameElement.sendKeys(lastName);
-        BaseTest.createStep("Completando el campo Last Name", true, true, IMMEDIATE);
-
-        // Completar campo Postal Code
-        WebElement postalCodeElement = wait.until(ExpectedConditions.elementToBeClickable(inputPortalCode));
-        postalCodeElement.clear();
-        postalCodeElement.sendKeys(postalCode);
-        BaseTest.createStep("Completando el campo Postal Code", true, true, IMMEDIATE);
-
-
+        Map<By, String> fields = new LinkedHashMap<>();
+        fields.put(inputFirstName, firstName);
+        fields.put(inputLastName, lastName);
+        fields.put(inputPortalCode, postalCode);
+        fillForm(fields, "Formulario de checkout completado: " + firstName + " " + lastName + " - " + postalCode, IMMEDIATE);
     }
 
     /**
@@ -75,7 +65,7 @@ public class CheckoutStepOnePage extends BasePage{
         try {
             // Esperar a que el botón Cancel sea clickeable
             WebElement cancelBtn  = wait.until(ExpectedConditions.elementToBeClickable(cancelButton));
-            cancelBtn .click();
+            navigateAndSettle(cancelBtn::click);
 
             // Validar redirección exitosa al carrito
             wait.until(ExpectedConditions.urlContains("cart.html"));
@@ -83,8 +73,6 @@ public class CheckoutStepOnePage extends BasePage{
             BaseTest.createStep("Botón Cancel clickeado - Regreso exitoso al carrito",
                     true, true, IMMEDIATE);
 
-            Thread.sleep(500); // Pausa para estabilidad
-
         } catch (Exception e) {
             BaseTest.processBuffer(COMMIT_MERGED_FAILURE,
                     "Error al hacer clic en el botón Cancel: " + e.getMessage(), true);
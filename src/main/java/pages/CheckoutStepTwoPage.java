@@ -5,7 +5,6 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import static basetest.BaseTest.StepMode.*;
 import static basetest.BaseTest.BufferAction.*;
@@ -37,7 +36,7 @@ public class CheckoutStepTwoPage extends BasePage {
         try {
             // Esperar a que el botón Cancel sea clickeable
             WebElement cancelBtn = wait.until(ExpectedConditions.elementToBeClickable(cancelButton));
-            cancelBtn.click();
+            navigateAndSettle(cancelBtn::click);
 
             // Validar redirección exitosa al carrito
             wait.until(ExpectedConditions.urlContains("inventory.html"));
@@ -45,8 +44,6 @@ public class CheckoutStepTwoPage extends BasePage {
             BaseTest.createStep("Botón Cancel clickeado - Regreso exitoso al listado de productos",
                     true, true, IMMEDIATE);
 
-            Thread.sleep(500); // Pausa para estabilidad
-
 
         } catch (Exception e) {
             BaseTest.processBuffer(COMMIT_MERGED_FAILURE,
@@ -59,15 +56,14 @@ public class CheckoutStepTwoPage extends BasePage {
         try {
             wait.until(ExpectedConditions.visibilityOfElementLocated(titleCheckoutOverview));
             WebElement finishBtn = wait.until(ExpectedConditions.elementToBeClickable(buttonFinish));
-            finishBtn.click();
+            navigateAndSettle(finishBtn::click);
 
             BaseTest.createStep("Botón Finish clickeado exitosamente en Checkout Overview.",
                     true, true, IMMEDIATE);
 
-            wait.until(ExpectedConditions.visibilityOfElementLocated(ponyExpressImg));
-            wait.until(ExpectedConditions.visibilityOfElementLocated(titleFinish));
-
-            Thread.sleep(500); // Pausa para estabilidad
+            waitForAll(BatchCondition.create()
+                    .visible(ponyExpressImg)
+                    .visible(titleFinish));
 
         } catch (Exception e) {
             BaseTest.processBuffer(COMMIT_MERGED_FAILURE, "Error al completar Checkout Overview: " + e.getMessage(), true);
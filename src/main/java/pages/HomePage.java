@@ -4,16 +4,20 @@ import basetest.BaseTest;
 import basetest.BaseTest.BufferAction;
 import basetest.BaseTest.StepMode;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import static basetest.BaseTest.StepMode.*;
 import static basetest.BaseTest.BufferAction.*;
 
-import java.time.Duration;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  *
@@ -22,8 +26,6 @@ import java.util.List;
  */
 public class HomePage extends BaseAuthenticatedPage {
 
-    private final WebDriverWait wait;
-
     private final By productsContainer = By.className("inventory_list");
     private final By productItems = By.className("inventory_item");
     private final By shoppingCartIcon = By.className("shopping_cart_link");
@@ -34,6 +36,58 @@ public class HomePage extends BaseAuthenticatedPage {
     private final By productLabel = By.className("product_label");
     private final By sideMenu = By.id("bm-menu");
     private final By loginButton = By.id("login-button");
+    private final By cartBadge = By.className("shopping_cart_badge");
+
+    /** Datos de todos los productos, en el orden en que aparecen en el inventario */
+    private static final String PRODUCT_SNAPSHOT_SCRIPT =
+            "function text(item, className) {" +
+            "  var el = item.getElementsByClassName(className)[0];" +
+            "  return el ? el.textContent.trim() : null;" +
+            "}" +
+            "return Array.prototype.map.call(document.getElementsByClassName('inventory_item'), function(item) {" +
+            "  var button = item.querySelector('button');" +
+            "  return {" +
+            "    name: text(item, 'inventory_item_name')," +
+            "    description: text(item, 'inventory_item_desc')," +
+            "    price: text(item, 'inventory_item_price')," +
+            "    inCart: !!button && button.textContent.trim().toUpperCase() === 'REMOVE'" +
+            "  };" +
+            "});";
+
+    /**
+     * Busca por nombre el botón de agregar de cada producto recibido y valida todos antes de hacer click:
+     * si alguno no existe, está repetido o no se puede agregar, no hace ningún click.
+     * Devuelve el contador del carrito previo a los clicks y los nombres rechazados.
+     */
+    private static final String ADD_PRODUCTS_SCRIPT =
+            "var buttons = {};" +
+            "Array.prototype.forEach.call(document.getElementsByClassName('inventory_item'), function(item) {" +
+            "  var name = item.getElementsByClassName('inventory_item_name')[0];" +
+            "  var key = name ? name.textContent.trim() : null;" +
+            "  if (key !== null && !(key in buttons)) {" +
+            "    buttons[key] = item.querySelector('button');" +
+            "  }" +
+            "});" +
+            "var badge = document.getElementsByClassName('shopping_cart_badge')[0];" +
+            "var before = badge ? parseInt(badge.textContent, 10) || 0 : 0;" +
+            "var targets = [], missing = [], unavailable = [], seen = {};" +
+            "arguments[0].forEach(function(name) {" +
+            "  if (!(name in buttons) || seen[name]) {" +
+            "    missing.push(name);" +
+            "    return;" +
+            "  }" +
+            "  seen[name] = true;" +
+            "  var button = buttons[name];" +
+            "  if (!button || button.disabled || button.textContent.trim().toUpperCase() !== 'ADD TO CART') {" +
+            "    unavailable.push(name);" +
+            "    return;" +
+            "  }" +
+            "  targets.push(button);" +
+            "});" +
+            "if (missing.length === 0 && unavailable.length === 0) {" +
+            "  targets.forEach(function(button) { button.click(); });" +
+            "}" +
+            "return { before: before, missing: missing, unavailable: unavailable };";
 
     /**
      * Constructor de HomePage.
@@ -41,15 +95,17 @@ public class HomePage extends BaseAuthenticatedPage {
      */
     public HomePage(WebDriver driver) {
         super(driver); // Llama al constructor de BaseAuthenticatedPage
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
 
         this.pageUrl = "https://www.saucedemo.com/v1/inventory.html";
         this.validationLocator = productsContainer;
         this.pageName = "Página de Inventario";
+        addReadinessCondition(ExpectedConditions.elementToBeClickable(shoppingCartIcon));
     }
 
     /**
      * Obtiene la lista de todos los productos disponibles en el inventario.
+     * Para leer los datos de los productos usar {@link #getProductSnapshot()}, que evita
+     * una llamada al navegador por cada campo de cada producto.
      *
      * @return Lista de WebElements con los productos
      */
@@ -123,12 +179,11 @@ public class HomePage extends BaseAuthenticatedPage {
     public void goToCart() throws InterruptedException {
         try {
             WebElement cartIcon = wait.until(ExpectedConditions.elementToBeClickable(shoppingCartIcon));
-            cartIcon.click();
+            navigateAndSettle(cartIcon::click);
 
             wait.until(ExpectedConditions.visibilityOfElementLocated(checkoutButton));
 
             BaseTest.createStep("Navegación exitosa al carrito de compras", true, true, IMMEDIATE);
-            Thread.sleep(500);
 
         } catch (Exception e) {
             BaseTest.processBuffer(COMMIT_MERGED_FAILURE,
@@ -144,7 +199,6 @@ public class HomePage extends BaseAuthenticatedPage {
      */
     public int getCartItemCount() {
         try {
-            By cartBadge = By.className("shopping_cart_badge");
             List<WebElement> badges = driver.findElements(cartBadge);
 
             if (!badges.isEmpty()) {
@@ -165,18 +219,82 @@ public class HomePage extends BaseAuthenticatedPage {
         }
     }
 
+    /**
+     * Captura nombre, descripción, precio y estado de todos los productos con un solo script.
+     * Ordenar, filtrar o validar precios sobre el resultado no requiere más llamadas al navegador.
+     *
+     * @return productos del inventario en orden de aparición
+     */
+    public List<Product> getProductSnapshot() {
+        List<Product> products = readProducts();
+        BaseTest.createStep("Productos encontrados: " + products.size() + " items disponibles",
+                true, false, BUFFER);
+        return products;
+    }
+
+    private List<Product> readProducts() {
+        wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(productItems));
+        List<?> rows = (List<?>) ((JavascriptExecutor) driver).executeScript(PRODUCT_SNAPSHOT_SCRIPT);
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Map<?, ?> row = (Map<?, ?>) rows.get(i);
+            products.add(new Product(i, (String) row.get("name"), (String) row.get("description"),
+                    parsePrice((String) row.get("price")), Boolean.TRUE.equals(row.get("inCart"))));
+        }
+        return Collections.unmodifiableList(products);
+    }
+
+    private static BigDecimal parsePrice(String priceText) {
+        if (priceText == null) {
+            return null;
+        }
+        String amount = priceText.replaceAll("[^0-9.]", "");
+        return amount.isEmpty() ? null : new BigDecimal(amount);
+    }
+
+    /**
+     * Agrega varios productos al carrito con un solo script y valida el contador del carrito una vez.
+     *
+     * @param productNames nombres exactos de los productos
+     * @return cantidad de items en el carrito después de agregarlos
+     * @throws IllegalArgumentException si algún producto no existe, está repetido o ya estaba en el carrito;
+     *         en ese caso no se agrega ninguno
+     */
+    public int addProductsToCart(String... productNames) {
+        Map<?, ?> result = (Map<?, ?>) ((JavascriptExecutor) driver)
+                .executeScript(ADD_PRODUCTS_SCRIPT, Arrays.asList(productNames));
+        List<?> missing = (List<?>) result.get("missing");
+        List<?> unavailable = (List<?>) result.get("unavailable");
+        if (!missing.isEmpty() || !unavailable.isEmpty()) {
+            StringBuilder message = new StringBuilder("No se agregó ningún producto al carrito.");
+            if (!missing.isEmpty()) {
+                message.append(" No encontrados o repetidos: ").append(missing).append('.');
+            }
+            if (!unavailable.isEmpty()) {
+                message.append(" Sin botón de agregar disponible: ").append(unavailable).append('.');
+            }
+            BaseTest.processBuffer(COMMIT_WITH_FAILURE, message.toString(), true);
+            throw new IllegalArgumentException(message.toString());
+        }
+
+        int expected = ((Number) result.get("before")).intValue() + productNames.length;
+        wait.until(ExpectedConditions.textToBe(cartBadge, String.valueOf(expected)));
+        return expected;
+    }
+
     public void addMultipleProductsToCart(String... productNames) {
         try {
-            for (String productName : productNames) {
-                addProductToCart(productName);
-            }
+            int finalCount = addProductsToCart(productNames);
 
             BaseTest.processBuffer(COMMIT_SUCCESS, null, false);
-
-            int finalCount = getCartItemCount();
-            BaseTest.createStep("Adición múltiple completada - Total en carrito: " + finalCount + " items",
+            BaseTest.createStep("Adición múltiple completada (" + String.join(", ", productNames)
+                            + ") - Total en carrito: " + finalCount + " items",
                     true, true, IMMEDIATE);
 
+        } catch (IllegalArgumentException e) {
+            // addProductsToCart ya registró el fallo en el reporte
+            throw e;
         } catch (Exception e) {
             BaseTest.processBuffer(COMMIT_WITH_FAILURE,
                     "Error en adición múltiple de productos: " + e.getMessage(), true);
@@ -219,10 +337,9 @@ public class HomePage extends BaseAuthenticatedPage {
             menuButton.click();
 
             // Esperar múltiples condiciones para asegurar que el menú esté completamente listo
-            wait.until(ExpectedConditions.and(
-                    ExpectedConditions.visibilityOfElementLocated(sidebarMenu),
-                    ExpectedConditions.elementToBeClickable(logoutButton)
-            ));
+            waitForAll(BatchCondition.create()
+                    .visible(sidebarMenu)
+                    .clickable(logoutButton));
 
             BaseTest.createStep("Menú hamburguesa abierto exitosamente",
                     true, true, IMMEDIATE);
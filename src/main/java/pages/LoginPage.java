@@ -4,17 +4,16 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import basetest.BaseTest;
 import static basetest.BaseTest.StepMode.*;
 import static basetest.BaseTest.BufferAction.*;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class LoginPage extends BasePage {
 
-    private final WebDriverWait wait;
-
     // Localizadores
     private final By usernameField = By.id("user-name");
     private final By passwordField = By.xpath("//input[@id='password']");
@@ -23,11 +22,11 @@ public class LoginPage extends BasePage {
 
     public LoginPage(WebDriver driver) {
         super(driver);
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
 
         this.pageUrl = "https://www.saucedemo.com/v1/";
         this.validationLocator = usernameField;
         this.pageName = "Sauce";
+        addReadinessCondition(ExpectedConditions.elementToBeClickable(loginButton));
     }
 
 
@@ -37,8 +36,6 @@ public class LoginPage extends BasePage {
             driver.findElement(usernameField).clear();
             driver.findElement(usernameField).sendKeys(username);
 
-            Thread.sleep(300);
-
             BaseTest.createStep("Usuario ingresado: " + username, true, true, BUFFER);
         } catch (Exception e) {
             BaseTest.processBuffer(COMMIT_MERGED_FAILURE,
@@ -53,8 +50,6 @@ public class LoginPage extends BasePage {
             driver.findElement(passwordField).clear();
             driver.findElement(passwordField).sendKeys(password);
 
-            Thread.sleep(300);
-
             BaseTest.createStep("Contraseña ingresada", true, true, BUFFER);
         } catch (Exception e) {
             BaseTest.processBuffer(COMMIT_MERGED_FAILURE,
@@ -63,6 +58,25 @@ public class LoginPage extends BasePage {
         }
     }
 
+    /**
+     * Ingresa usuario y contraseña en una sola operación, con un único step en el buffer.
+     *
+     * @param username nombre de usuario
+     * @param password contraseña
+     */
+    public void enterCredentials(String username, String password) {
+        Map<By, String> credentials = new LinkedHashMap<>();
+        credentials.put(usernameField, username);
+        credentials.put(passwordField, password);
+        try {
+            fillForm(credentials, "Credenciales ingresadas para el usuario: " + username, BUFFER);
+        } catch (Exception e) {
+            BaseTest.processBuffer(COMMIT_MERGED_FAILURE,
+                    "Error al ingresar credenciales: " + e.getMessage(), true);
+            throw e;
+        }
+    }
+
     public void clickLoginButton() throws InterruptedException {
         try {
             wait.until(ExpectedConditions.elementToBeClickable(loginButton));
@@ -70,7 +84,6 @@ public class LoginPage extends BasePage {
             BaseTest.createStep("Click en botón de login", true, true, BUFFER);
 
             driver.findElement(loginButton).click();
-            Thread.sleep(500);
 
         } catch (Exception e) {
             BaseTest.processBuffer(COMMIT_MERGED_FAILURE,
@@ -107,25 +120,33 @@ public class LoginPage extends BasePage {
         }
     }
 
-    public void completeLogin(String username, String password) throws InterruptedException {
-        enterUsername(username);
-        enterPassword(password);
+    /**
+     * Completa el login y espera lo primero que ocurra: la redirección al inventario o el mensaje de error.
+     *
+     * @param username nombre de usuario
+     * @param password contraseña
+     * @return desenlace del login
+     */
+    public PageOutcome completeLogin(String username, String password) throws InterruptedException {
+        enterCredentials(username, password);
         clickLoginButton();
 
-        Thread.sleep(1000);
+        PageOutcome outcome = awaitOutcome(ExpectedConditions.urlContains("inventory.html"),
+                errorMessage, Duration.ofSeconds(15));
 
-        if (isErrorMessageDisplayed()) {
-            String errorMsg = getErrorMessage();
-            BaseTest.processBuffer(COMMIT_WITH_FAILURE, "Login falló: " + errorMsg, true);
-        } else {
-            if (isLoginSuccessful()) {
+        switch (outcome.getType()) {
+            case ERROR:
+                BaseTest.processBuffer(COMMIT_WITH_FAILURE, "Login falló: " + outcome.getMessage(), true);
+                break;
+            case SUCCESS:
                 BaseTest.processBuffer(COMMIT_SUCCESS, null, false);
                 BaseTest.createStep("Login exitoso - Redirigido a inventario", true, true, IMMEDIATE);
-            } else {
+                break;
+            default:
                 BaseTest.processBuffer(COMMIT_SUCCESS, null, false);
                 BaseTest.createStep("Login procesado - Verificando resultado...", true, true, IMMEDIATE);
-            }
         }
+        return outcome;
     }
 
     /**
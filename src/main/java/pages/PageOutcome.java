@@ -0,0 +1,52 @@
+package pages;
+
+/**
+ * Resultado de una acción que puede terminar de varias formas (ej: login exitoso o mensaje de error).
+ * Lo produce {@link BasePage#awaitOutcome} con el primer desenlace que ocurra.
+ */
+public final class PageOutcome {
+
+    /**
+     * Desenlaces posibles de la acción.
+     */
+    public enum Type {
+        /** Se cumplió la condición de éxito */
+        SUCCESS,
+        /** Apareció el mensaje de error de la página */
+        ERROR,
+        /** No ocurrió ningún desenlace dentro del tiempo límite */
+        UNKNOWN
+    }
+
+    private final Type type;
+    private final String message;
+
+    private PageOutcome(Type type, String message) {
+        this.type = type;
+        this.message = message;
+    }
+
+    public static PageOutcome success() {
+        return new PageOutcome(Type.SUCCESS, null);
+    }
+
+    public static PageOutcome error(String message) {
+        return new PageOutcome(Type.ERROR, message);
+    }
+
+    public static PageOutcome unknown() {
+        return new PageOutcome(Type.UNKNOWN, null);
+    }
+
+    public Type getType() { return type; }
+    /** Texto del mensaje de error; null si el desenlace no es ERROR */
+    public String getMessage() { return message; }
+
+    public boolean isSuccess() { return type == Type.SUCCESS; }
+    public boolean isError() { return type == Type.ERROR; }
+
+    @Override
+    public String toString() {
+        return message == null ? type.name() : type + ": " + message;
+    }
+}
@@ -0,0 +1,59 @@
+package pages;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Copia inmutable de los datos de un producto del inventario.
+ * Se obtiene con {@link HomePage#getProductSnapshot()}; leer sus campos no genera llamadas al navegador.
+ */
+public final class Product {
+
+    private final int position;
+    private final String name;
+    private final String description;
+    private final BigDecimal price;
+    private final boolean inCart;
+
+    public Product(int position, String name, String description, BigDecimal price, boolean inCart) {
+        this.position = position;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.inCart = inCart;
+    }
+
+    /** Posición del producto en el inventario, empezando en 0 */
+    public int getPosition() { return position; }
+    public String getName() { return name; }
+    public String getDescription() { return description; }
+    public BigDecimal getPrice() { return price; }
+    /** true si el botón del producto es REMOVE al momento de la captura */
+    public boolean isInCart() { return inCart; }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Product)) {
+            return false;
+        }
+        Product product = (Product) other;
+        return position == product.position
+                && inCart == product.inCart
+                && Objects.equals(name, product.name)
+                && Objects.equals(description, product.description)
+                && Objects.equals(price, product.price);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(position, name, description, price, inCart);
+    }
+
+    @Override
+    public String toString() {
+        return name + " ($" + price + ")";
+    }
+}
@@ -0,0 +1,51 @@
+package pages;
+
+import org.openqa.selenium.By;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Traduce localizadores de Selenium a una forma que los scripts ejecutados en el navegador
+ * pueden resolver, para operar sobre varios elementos en una sola llamada.
+ */
+final class ScriptLocators {
+
+    /**
+     * Define find(using, value), equivalente a findElement para los localizadores estándar de Selenium.
+     */
+    static final String FIND_FUNCTION =
+            "function find(using, value) {" +
+            "  switch (using) {" +
+            "    case 'id': return document.getElementById(value);" +
+            "    case 'class name': return document.getElementsByClassName(value)[0];" +
+            "    case 'name': return document.getElementsByName(value)[0];" +
+            "    case 'tag name': return document.getElementsByTagName(value)[0];" +
+            "    case 'css selector': return document.querySelector(value);" +
+            "    case 'xpath': return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "    case 'link text': return Array.prototype.find.call(document.links, function(a) { return a.textContent.trim() === value; });" +
+            "    case 'partial link text': return Array.prototype.find.call(document.links, function(a) { return a.textContent.indexOf(value) >= 0; });" +
+            "  }" +
+            "  return null;" +
+            "}";
+
+    private ScriptLocators() {
+    }
+
+    /**
+     * Convierte un localizador en el par using/value que recibe find().
+     *
+     * @throws IllegalArgumentException si el localizador no expone sus parámetros remotos
+     */
+    static Map<String, Object> toScriptLocator(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Localizador no soportado en scripts agrupados: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+
+        Map<String, Object> scriptLocator = new HashMap<>();
+        scriptLocator.put("using", parameters.using());
+        scriptLocator.put("value", String.valueOf(parameters.value()));
+        return scriptLocator;
+    }
+}
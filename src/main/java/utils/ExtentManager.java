@@ -1,22 +1,30 @@
 package utils;
 
+import basetest.ExecutionProfile;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 
+import java.io.File;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+/**
+ * Administra la instancia única de ExtentReports y el test activo de cada hilo.
+ * Los métodos que tocan la instancia compartida están sincronizados para ejecución en paralelo.
+ */
 public class ExtentManager {
-    private static ExtentReports extent;
-    private static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    private static volatile ExtentReports extent;
+    private static final ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    private static final File reportsDir = new File(System.getProperty("user.dir"), "reports");
+    private static volatile String runId;
 
-    public static void createInstance() {
+    public static synchronized void createInstance() {
         if (extent == null) {
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-            String reportPath = System.getProperty("user.dir") + "/reports/ExtentReport_" + timestamp + ".html";
+            String timestamp = getRunId();
+            String reportPath = new File(reportsDir, "ExtentReport_" + timestamp + ".html").getPath();
 
             ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
             sparkReporter.config().setTheme(Theme.DARK);
@@ -29,22 +37,40 @@ public class ExtentManager {
             extent.setSystemInfo("OS", System.getProperty("os.name"));
             extent.setSystemInfo("Java Version", System.getProperty("java.version"));
             extent.setSystemInfo("Browser", "Chrome");
+            extent.setSystemInfo("Execution Profile", ExecutionProfile.current().describe());
             extent.setSystemInfo("Environment", "QA");
             extent.setSystemInfo("User", System.getProperty("user.name"));
         }
     }
 
-    public static ExtentTest createTest(String testName, String description) {
+    public static synchronized ExtentTest createTest(String testName, String description) {
         ExtentTest extentTest = extent.createTest(testName, description);
         test.set(extentTest);
         return extentTest;
     }
 
+    /**
+     * Identificador de la ejecución (timestamp de inicio), compartido por el reporte y sus adjuntos.
+     */
+    public static synchronized String getRunId() {
+        if (runId == null) {
+            runId = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+        }
+        return runId;
+    }
+
+    /**
+     * Directorio donde se genera el reporte HTML; las rutas de los adjuntos son relativas a él.
+     */
+    public static File getReportsDir() {
+        return reportsDir;
+    }
+
     public static ExtentTest getTest() {
         return test.get();
     }
 
-    public static void flushReport() {
+    public static synchronized void flushReport() {
         if (extent != null) {
             extent.flush();
         }
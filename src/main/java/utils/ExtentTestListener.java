@@ -4,12 +4,11 @@ import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.markuputils.ExtentColor;
 import com.aventstack.extentreports.markuputils.MarkupHelper;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 import basetest.BaseTest;
+import basetest.CapturePolicy;
 
 public class ExtentTestListener implements ITestListener {
 
@@ -22,8 +21,14 @@ public class ExtentTestListener implements ITestListener {
             description = "Test execution for: " + testName;
         }
 
-        ExtentManager.createTest(testName, description);
+        ExtentTest extentTest = ExtentManager.createTest(testName, description);
         // REMOVIDO: No agregar log de "Test started" para mantener reporte limpio
+
+        // @BeforeMethod ya se ejecutó en este punto, por lo que se conoce la espera por el driver
+        Long driverWait = BaseTest.getDriverWaitMillis();
+        if (driverWait != null) {
+            extentTest.log(Status.INFO, "Driver asignado en " + driverWait + " ms");
+        }
     }
 
     @Override
@@ -39,30 +44,41 @@ public class ExtentTestListener implements ITestListener {
     @Override
     public void onTestFailure(ITestResult result) {
         ExtentTest test = ExtentManager.getTest();
+        ScreenshotPipeline.awaitTest(test);
         test.log(Status.FAIL, MarkupHelper.createLabel("Test FAILED: " + result.getMethod().getMethodName(), ExtentColor.RED));
 
         // Log del error
         test.log(Status.FAIL, "Failure reason: " + result.getThrowable().getMessage());
 
-        // OPCIONAL: Solo capturar screenshot en fallas si no hay ninguno en los steps
-        // captureScreenshot(result, "FAILED", "error");
+        // Con always los steps ya tienen sus screenshots; las demás políticas agregan
+        // las capturas guardadas en memoria (last-K) y el estado final de la página
+        CapturePolicy policy = BaseTest.getCapturePolicy();
+        if (policy.capturesOnTestFailure()) {
+            for (CapturePolicy.Frame frame : policy.takeFrames()) {
+                ScreenshotPipeline.write(test, Status.INFO, "Captura previa al fallo: " + frame.getDescription(),
+                        frame.getPng(), "standard");
+            }
+            captureScreenshot(result, "FAILED", "error");
+        }
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
         ExtentTest test = ExtentManager.getTest();
+        ScreenshotPipeline.awaitTest(test);
         test.log(Status.SKIP, MarkupHelper.createLabel("Test SKIPPED: " + result.getMethod().getMethodName(), ExtentColor.YELLOW));
         test.log(Status.SKIP, "Skip reason: " + result.getThrowable().getMessage());
     }
 
     @Override
     public void onFinish(org.testng.ITestContext context) {
+        ScreenshotPipeline.drain();
         ExtentManager.flushReport();
     }
 
     /**
-     * Metodo mantenido por si necesitas usarlo en el futuro
-     * Actualmente comentado para evitar screenshots duplicados
+     * Agrega una captura del estado final de la página al fallar el test.
+     * Solo se usa cuando la política de screenshots no captura todos los steps.
      */
     private void captureScreenshot(ITestResult result, String status, String styleName) {
         try {
@@ -70,13 +86,12 @@ public class ExtentTestListener implements ITestListener {
             if (testClass instanceof BaseTest) {
                 WebDriver driver = ((BaseTest) testClass).getDriver();
                 if (driver != null) {
-                    String base64Screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
-                    String imageHtml = ScreenshotUtils.generateScreenshotHtml(base64Screenshot, styleName, status);
-                    ExtentManager.getTest().log(Status.INFO, imageHtml);
+                    byte[] screenshot = ScreenshotPipeline.capture(driver);
+                    ScreenshotPipeline.write(ExtentManager.getTest(), Status.INFO, status, screenshot, styleName);
                 }
             }
         } catch (Exception e) {
-            ExtentManager.getTest().log(Status.WARNING, ScreenshotUtils.getErrorMessage() + ": " + e.getMessage());
+            ScreenshotPipeline.write(ExtentManager.getTest(), Status.WARNING, ScreenshotUtils.getErrorMessage() + ": " + e.getMessage());
         }
     }
 }
\ No newline at end of file
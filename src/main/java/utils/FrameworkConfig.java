@@ -0,0 +1,55 @@
+package utils;
+
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Configuración de ejecución del framework.
+ * Lee los valores por defecto de framework.properties y permite sobrescribir
+ * cualquier clave desde la línea de comandos con -Dclave=valor.
+ */
+public class FrameworkConfig {
+
+    private static final Properties properties = loadProperties();
+
+    private static Properties loadProperties() {
+        Properties props = new Properties();
+        try (InputStream input = FrameworkConfig.class.getClassLoader()
+                .getResourceAsStream("framework.properties")) {
+            if (input != null) {
+                props.load(input);
+            }
+        } catch (Exception e) {
+            System.err.println("Error cargando framework.properties: " + e.getMessage());
+        }
+        return props;
+    }
+
+    /**
+     * Obtiene un valor de configuración. La propiedad del sistema tiene prioridad sobre el archivo.
+     *
+     * @param key clave de configuración
+     * @param defaultValue valor a usar si la clave no está definida
+     * @return valor configurado o el valor por defecto
+     */
+    public static String get(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            value = properties.getProperty(key);
+        }
+        return (value == null || value.trim().isEmpty()) ? defaultValue : value.trim();
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(get(key, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            System.err.println("Valor inválido para " + key + ", usando " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(get(key, String.valueOf(defaultValue)));
+    }
+}
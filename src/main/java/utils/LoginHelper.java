@@ -2,13 +2,20 @@ package utils;
 
 import basetest.BaseTest;
 import basetest.BaseTest.StepMode;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import pages.LoginPage;
+import pages.PageOutcome;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Clase utilitaria para manejar login automático en tests.
  * Proporciona métodos estáticos para iniciar sesión de manera transparente
  * antes de ejecutar tests en páginas que requieren autenticación.
+ * El primer login exitoso de cada usuario guarda la sesión (cookies y storage) y los tests
+ * siguientes la reinyectan en lugar de repetir el login por interfaz (login.sessionReplay).
  *
  * @author HECTOR CABA
  * @version 2.0 - Steps optimizados
@@ -19,6 +26,10 @@ public class LoginHelper {
     private static final String DEFAULT_USERNAME = "standard_user";
     private static final String DEFAULT_PASSWORD = "secret_sauce";
 
+    private static final boolean SESSION_REPLAY = FrameworkConfig.getBoolean("login.sessionReplay", true);
+    /** Sesiones capturadas por usuario, compartidas por todos los hilos */
+    private static final Map<String, SessionSnapshot> sessionSnapshots = new ConcurrentHashMap<>();
+
     /**
      * Realiza login completo con credenciales por defecto.
      * Navega a la página de login, completa las credenciales y valida el éxito.
@@ -45,11 +56,12 @@ public class LoginHelper {
         try {
             LoginPage loginPage = new LoginPage(driver);
             loginPage.goTo();
-            loginPage.completeLogin(username, password);
+            PageOutcome outcome = loginPage.completeLogin(username, password);
 
             // Validar que el login fue exitoso
-            if (loginPage.isLoginSuccessful()) {
+            if (outcome.isSuccess()) {
                 //BaseTest.createStep("Login completado exitosamente", true, true, StepMode.IMMEDIATE);
+                captureSession(driver, username);
             } else {
                 BaseTest.createStep("Login falló - No se pudo autenticar al usuario", false, true, StepMode.IMMEDIATE);
                 throw new RuntimeException("Login automático falló");
@@ -87,8 +99,108 @@ public class LoginHelper {
      * @throws InterruptedException si el proceso es interrumpido
      */
     public static void ensureUserLoggedIn(WebDriver driver) throws InterruptedException {
-        if (!isUserLoggedIn(driver)) {
+        if (!isUserLoggedIn(driver) && !restoreSession(driver, DEFAULT_USERNAME)) {
             performLogin(driver);
         }
     }
+
+    /**
+     * Reinyecta la sesión capturada de un usuario y valida que siga autenticada.
+     * Si la validación falla, la sesión guardada se descarta para que el siguiente login la renueve.
+     *
+     * @param driver instancia de WebDriver activa
+     * @param username usuario cuya sesión se quiere restaurar
+     * @return true si el navegador quedó autenticado, false si se debe hacer login por interfaz
+     */
+    public static boolean restoreSession(WebDriver driver, String username) {
+        SessionSnapshot snapshot = sessionSnapshots.get(username);
+        if (snapshot == null || !injectSession(driver, username)) {
+            return false;
+        }
+
+        boolean loaded = true;
+        try {
+            driver.get(snapshot.getLandingUrl());
+        } catch (Exception e) {
+            System.err.println("No se pudo restaurar la sesión de " + username + ": " + e.getMessage());
+            loaded = false;
+        }
+        return confirmSession(driver, username, loaded);
+    }
+
+    /**
+     * Inyecta la sesión guardada del usuario por defecto sin navegar.
+     *
+     * @see #injectSession(WebDriver, String)
+     */
+    public static boolean injectSession(WebDriver driver) {
+        return injectSession(driver, DEFAULT_USERNAME);
+    }
+
+    /**
+     * Inyecta cookies y storage de la sesión guardada de un usuario sin navegar a una página autenticada.
+     * La navegación que haga el test a continuación sirve de validación; su resultado se informa
+     * con {@link #confirmSession(WebDriver, String, boolean)}.
+     *
+     * @param driver instancia de WebDriver activa
+     * @param username usuario cuya sesión se quiere restaurar
+     * @return true si había una sesión guardada y se inyectó
+     */
+    public static boolean injectSession(WebDriver driver, String username) {
+        SessionSnapshot snapshot = sessionSnapshots.get(username);
+        if (snapshot == null) {
+            return false;
+        }
+        try {
+            snapshot.restore(driver);
+            return true;
+        } catch (Exception e) {
+            System.err.println("No se pudo restaurar la sesión de " + username + ": " + e.getMessage());
+            sessionSnapshots.remove(username, snapshot);
+            return false;
+        }
+    }
+
+    /**
+     * Confirma la sesión inyectada del usuario por defecto.
+     *
+     * @see #confirmSession(WebDriver, String, boolean)
+     */
+    public static boolean confirmSession(WebDriver driver, boolean pageLoaded) {
+        return confirmSession(driver, DEFAULT_USERNAME, pageLoaded);
+    }
+
+    /**
+     * Valida una sesión inyectada después de la primera navegación: la página debe haber cargado,
+     * la URL debe ser de una página autenticada y el formulario de login no debe estar presente.
+     * Si la validación falla, la sesión guardada se descarta para que el siguiente login la renueve.
+     *
+     * @param driver instancia de WebDriver activa
+     * @param username usuario cuya sesión se inyectó
+     * @param pageLoaded false si la navegación no encontró el contenido esperado de la página
+     * @return true si el navegador quedó autenticado, false si se debe hacer login por interfaz
+     */
+    public static boolean confirmSession(WebDriver driver, String username, boolean pageLoaded) {
+        try {
+            if (pageLoaded && isUserLoggedIn(driver) && driver.findElements(By.id("login-button")).isEmpty()) {
+                BaseTest.createStep("Sesión restaurada para " + username, true, false, StepMode.IMMEDIATE);
+                return true;
+            }
+        } catch (Exception e) {
+            System.err.println("No se pudo validar la sesión de " + username + ": " + e.getMessage());
+        }
+        sessionSnapshots.remove(username);
+        return false;
+    }
+
+    private static void captureSession(WebDriver driver, String username) {
+        if (!SESSION_REPLAY) {
+            return;
+        }
+        try {
+            sessionSnapshots.put(username, SessionSnapshot.capture(driver));
+        } catch (Exception e) {
+            System.err.println("No se pudo capturar la sesión de " + username + ": " + e.getMessage());
+        }
+    }
 }
\ No newline at end of file
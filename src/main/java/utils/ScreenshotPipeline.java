@@ -0,0 +1,171 @@
+package utils;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Saca del hilo del test el trabajo pesado de los screenshots. El test solo pide al navegador los bytes PNG;
+ * guardar o codificar la imagen, armar el HTML y escribir en el reporte ocurre en un pool de
+ * report.screenshots.threads hilos. Las escrituras de cada test se encadenan, así que los steps aparecen
+ * en el reporte en el mismo orden en que se crearon.
+ * Como máximo hay report.screenshots.maxPending tareas en curso; al llegar a ese límite el hilo del test
+ * espera, lo que acota la memoria ocupada por imágenes pendientes.
+ */
+public final class ScreenshotPipeline {
+    private static final Logger logger = LoggerFactory.getLogger(ScreenshotPipeline.class);
+
+    private static final int THREADS = Math.max(1, FrameworkConfig.getInt("report.screenshots.threads", 2));
+    private static final int MAX_PENDING = Math.max(1, FrameworkConfig.getInt("report.screenshots.maxPending", 32));
+    private static final int DRAIN_SECONDS = 120;
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    private static final ExecutorService writers = Executors.newFixedThreadPool(THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "screenshot-writer-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Semaphore pending = new Semaphore(MAX_PENDING);
+
+    /** Última escritura encolada de cada test; la siguiente se ejecuta cuando termina */
+    private static final Map<ExtentTest, CompletableFuture<Void>> chains = new ConcurrentHashMap<>();
+
+    private ScreenshotPipeline() {
+    }
+
+    /**
+     * Captura la pantalla como bytes PNG, sin codificar. Es la única parte que ocurre en el hilo del test.
+     *
+     * @param driver navegador a capturar
+     * @return bytes PNG de la captura
+     */
+    public static byte[] capture(WebDriver driver) {
+        return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+    }
+
+    /**
+     * Encola un step con screenshot en el reporte del test, detrás de los que ya estaban encolados.
+     * En el hilo que escribe el step la imagen pasa por {@link ScreenshotStore}, que la guarda
+     * una sola vez aunque varios steps produzcan la misma captura.
+     *
+     * @param test test del reporte; se toma en el hilo del test porque ExtentManager lo guarda por hilo
+     * @param status estado del step
+     * @param description descripción del step
+     * @param png bytes PNG de la captura, o null para un step sin imagen
+     * @param styleName estilo de ScreenshotUtils para la imagen
+     */
+    public static void write(ExtentTest test, Status status, String description, byte[] png, String styleName) {
+        enqueue(test, () -> {
+            if (png == null) {
+                test.log(status, description);
+                return;
+            }
+            try {
+                String imageHtml = ScreenshotStore.toHtml(png, styleName, description);
+                test.log(status, description + "<br>" + imageHtml);
+            } catch (Exception | OutOfMemoryError e) {
+                // El step queda en el reporte aunque la imagen no se pueda procesar
+                test.log(status, description);
+                test.log(Status.WARNING, "Error mostrando screenshot: " + e);
+            }
+        });
+    }
+
+    /**
+     * Encola un mensaje sin imagen, respetando el orden de los steps del test.
+     */
+    public static void write(ExtentTest test, Status status, String message) {
+        enqueue(test, () -> test.log(status, message));
+    }
+
+    /**
+     * Encola una tarea detrás de las anteriores del mismo test. Cada tarea se ejecuta aunque
+     * una anterior haya fallado, y su lugar en la cola se libera pase lo que pase: un error en un step
+     * no debe hacer perder los siguientes ni dejar a los tests bloqueados esperando lugar.
+     */
+    private static void enqueue(ExtentTest test, Runnable task) {
+        acquire();
+        Runnable guarded = () -> {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                logger.warn("Error escribiendo step en el reporte: {}", e.toString());
+            } finally {
+                pending.release();
+            }
+        };
+        try {
+            chains.compute(test, (key, previous) -> previous == null
+                    ? CompletableFuture.runAsync(guarded, writers)
+                    : previous.handleAsync((result, error) -> {
+                        guarded.run();
+                        return null;
+                    }, writers));
+        } catch (RuntimeException e) {
+            pending.release();
+            throw e;
+        }
+    }
+
+    private static void acquire() {
+        try {
+            pending.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando lugar en la cola de screenshots", e);
+        }
+    }
+
+    /**
+     * Espera a que se escriban todos los steps encolados de un test. Se invoca antes de escribir
+     * directamente en el reporte (resumen del test, motivo del fallo) para no alterar el orden.
+     *
+     * @param test test del reporte; null no hace nada
+     */
+    public static void awaitTest(ExtentTest test) {
+        if (test == null) {
+            return;
+        }
+        CompletableFuture<Void> chain = chains.get(test);
+        if (chain != null) {
+            try {
+                chain.join();
+            } catch (CompletionException | CancellationException e) {
+                logger.warn("Error esperando los steps del test: {}", e.toString());
+            }
+            chains.remove(test, chain);
+        }
+    }
+
+    /**
+     * Espera a que terminen todas las tareas en curso. Se invoca antes de ExtentManager.flushReport()
+     * para que el reporte incluya todos los screenshots; el pool sigue disponible para otros tests.
+     */
+    public static void drain() {
+        try {
+            if (pending.tryAcquire(MAX_PENDING, DRAIN_SECONDS, TimeUnit.SECONDS)) {
+                pending.release(MAX_PENDING);
+            } else {
+                logger.warn("Quedaron screenshots sin escribir después de {} s", DRAIN_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        chains.entrySet().removeIf(entry -> entry.getValue().isDone());
+    }
+}
@@ -0,0 +1,116 @@
+package utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Almacén de screenshots direccionado por contenido: cada imagen se identifica por el hash SHA-256
+ * de sus bytes, de modo que las capturas idénticas (ej: varios steps seguidos sobre la misma pantalla)
+ * se guardan y embeben una sola vez y todos los steps que las produjeron las referencian.
+ * Con report.screenshots.mode=file las imágenes se escriben en reports/&lt;ejecución&gt;/screens/ y el reporte
+ * las referencia por ruta. Con inline se embeben en base64 y el reporte queda en un solo archivo.
+ */
+public final class ScreenshotStore {
+
+    private static final boolean FILE_MODE = FrameworkConfig.get("report.screenshots.mode", "file").equalsIgnoreCase("file");
+    private static final String SCREENS_DIR = "screens";
+    /** Caracteres hexadecimales del hash usados como identificador (128 bits) */
+    private static final int ID_LENGTH = 32;
+
+    /** Hash → ruta relativa (modo file) o hash → id ya embebido (modo inline) */
+    private static final Map<String, String> stored = new ConcurrentHashMap<>();
+    private static volatile File directory;
+
+    private static final AtomicLong references = new AtomicLong();
+    private static final AtomicLong referencedBytes = new AtomicLong();
+    private static final AtomicLong storedBytes = new AtomicLong();
+
+    private ScreenshotStore() {
+    }
+
+    /**
+     * Guarda la imagen si es la primera vez que aparece y genera el HTML del step que la muestra.
+     *
+     * @param png bytes PNG de la captura
+     * @param styleName estilo de ScreenshotUtils para la imagen
+     * @param context descripción del step
+     * @return HTML de la imagen
+     * @throws UncheckedIOException si no se pudo escribir el archivo
+     */
+    public static String toHtml(byte[] png, String styleName, String context) {
+        String id = hash(png);
+        references.incrementAndGet();
+        referencedBytes.addAndGet(png.length);
+
+        if (FILE_MODE) {
+            String path = stored.computeIfAbsent(id, key -> write(key, png));
+            return ScreenshotUtils.generateScreenshotFileHtml(path, styleName, context);
+        }
+        if (stored.putIfAbsent(id, id) == null) {
+            storedBytes.addAndGet(png.length);
+            return ScreenshotUtils.generateScreenshotHtml(Base64.getEncoder().encodeToString(png), styleName, context, id);
+        }
+        return ScreenshotUtils.generateScreenshotReferenceHtml(id, styleName, context);
+    }
+
+    private static String write(String id, byte[] png) {
+        String fileName = id + ".png";
+        try {
+            Files.write(new File(getDirectory(), fileName).toPath(), png);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo guardar el screenshot " + fileName, e);
+        }
+        storedBytes.addAndGet(png.length);
+        return ExtentManager.getRunId() + "/" + SCREENS_DIR + "/" + fileName;
+    }
+
+    private static File getDirectory() throws IOException {
+        if (directory == null) {
+            synchronized (ScreenshotStore.class) {
+                if (directory == null) {
+                    File screens = new File(new File(ExtentManager.getReportsDir(), ExtentManager.getRunId()), SCREENS_DIR);
+                    Files.createDirectories(screens.toPath());
+                    directory = screens;
+                }
+            }
+        }
+        return directory;
+    }
+
+    private static String hash(byte[] png) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(png);
+            StringBuilder hex = new StringBuilder(ID_LENGTH);
+            for (int i = 0; i < ID_LENGTH / 2; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    /**
+     * Resumen de la deduplicación de la ejecución: steps con imagen, imágenes únicas y bytes ahorrados.
+     *
+     * @return resumen legible, o null si no hubo screenshots
+     */
+    public static String getSummary() {
+        long total = references.get();
+        if (total == 0) {
+            return null;
+        }
+        int unique = stored.size();
+        long saved = referencedBytes.get() - storedBytes.get();
+        return String.format("Screenshots: %d en steps, %d únicos (dedup %.1fx), %d KB guardados, %d KB evitados",
+                total, unique, (double) total / Math.max(1, unique), storedBytes.get() / 1024, saved / 1024);
+    }
+}
@@ -7,20 +7,23 @@ import org.w3c.dom.NodeList;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.InputStream;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Utilidad para generar HTML de screenshots con modal integrado
+ * Utilidad para generar HTML de screenshots con modal integrado.
+ * Es segura para ejecución en paralelo: la configuración se carga una sola vez
+ * y el script del modal se inyecta en un único step del reporte.
  */
 public class ScreenshotUtils {
 
-    private static Map<String, ScreenshotStyle> styles = new HashMap<>();
-    private static ModalConfig modalConfig;
-    private static String tooltipMessage;
-    private static String errorMessage;
-    private static boolean configLoaded = false;
-    private static boolean modalStylesInjected = false;
+    private static final Map<String, ScreenshotStyle> styles = new ConcurrentHashMap<>();
+    private static volatile ModalConfig modalConfig;
+    private static volatile String tooltipMessage;
+    private static volatile String errorMessage;
+    private static volatile boolean configLoaded = false;
+    private static final AtomicBoolean modalStylesInjected = new AtomicBoolean(false);
 
     // Clases internas simplificadas
     public static class ScreenshotStyle {
@@ -57,6 +60,14 @@ public class ScreenshotUtils {
     private static void loadConfig() {
         if (configLoaded) return;
 
+        synchronized (ScreenshotUtils.class) {
+            if (!configLoaded) {
+                loadConfigFromXml();
+            }
+        }
+    }
+
+    private static void loadConfigFromXml() {
         try {
             InputStream xmlFile = ScreenshotUtils.class.getClassLoader()
                     .getResourceAsStream("screenshot-styles.xml");
@@ -153,9 +164,7 @@ public class ScreenshotUtils {
      * Genera los estilos CSS y JavaScript para el modal (solo una vez)
      */
     private static String getModalScript() {
-        if (modalStylesInjected) return "";
-
-        modalStylesInjected = true;
+        if (!modalStylesInjected.compareAndSet(false, true)) return "";
 
         return "<script>" +
                 "if (!window.screenshotModalCreated) {" +
@@ -185,6 +194,12 @@ public class ScreenshotUtils {
                 "    document.getElementById('modalImage').src = src;" +
                 "    document.getElementById('screenshotModal').style.display = 'flex';" +
                 "  }" +
+                "  document.addEventListener('DOMContentLoaded', function() {" +
+                "    document.querySelectorAll('img[data-shot-ref]').forEach(function(img) {" +
+                "      var source = document.querySelector(\"img[data-shot='\" + img.getAttribute('data-shot-ref') + \"']\");" +
+                "      if (source) img.src = source.src;" +
+                "    });" +
+                "  });" +
                 "  document.addEventListener('keydown', function(e) {" +
                 "    if (e.key === 'Escape') {" +
                 "      var modal = document.getElementById('screenshotModal');" +
@@ -199,6 +214,38 @@ public class ScreenshotUtils {
      * Genera el HTML para un screenshot con modal integrado
      */
     public static String generateScreenshotHtml(String base64Image, String styleName, String context) {
+        return generateImageHtml("src='data:image/png;base64," + base64Image + "'", styleName);
+    }
+
+    /**
+     * Genera el HTML para un screenshot embebido que otros steps pueden referenciar por su id.
+     *
+     * @param shotId identificador de la imagen (hash de su contenido)
+     */
+    public static String generateScreenshotHtml(String base64Image, String styleName, String context, String shotId) {
+        return generateImageHtml("src='data:image/png;base64," + base64Image + "' data-shot='" + shotId + "'", styleName);
+    }
+
+    /**
+     * Genera el HTML para un screenshot idéntico a otro ya embebido en el reporte:
+     * al abrir el reporte la imagen toma el src del elemento con el mismo id.
+     *
+     * @param shotId identificador de la imagen embebida
+     */
+    public static String generateScreenshotReferenceHtml(String shotId, String styleName, String context) {
+        return generateImageHtml("data-shot-ref='" + shotId + "'", styleName);
+    }
+
+    /**
+     * Genera el HTML para un screenshot guardado como archivo junto al reporte.
+     *
+     * @param relativePath ruta de la imagen relativa al HTML del reporte
+     */
+    public static String generateScreenshotFileHtml(String relativePath, String styleName, String context) {
+        return generateImageHtml("src='" + relativePath + "'", styleName);
+    }
+
+    private static String generateImageHtml(String imageAttributes, String styleName) {
         loadConfig();
 
         ScreenshotStyle style = styles.getOrDefault(styleName, styles.get("standard"));
@@ -206,7 +253,7 @@ public class ScreenshotUtils {
         StringBuilder html = new StringBuilder();
         html.append(getModalScript());
         html.append("<div style='").append(style.containerStyle).append("'>");
-        html.append("<img src='data:image/png;base64,").append(base64Image).append("' ");
+        html.append("<img ").append(imageAttributes).append(" ");
         html.append("style='").append(style.imageStyle).append("' ");
 
         if (!style.hoverIn.isEmpty()) {
@@ -216,7 +263,8 @@ public class ScreenshotUtils {
             html.append("onmouseout=\"").append(style.hoverOut).append("\" ");
         }
 
-        html.append("onclick=\"showScreenshot('data:image/png;base64,").append(base64Image).append("')\" ");
+        // El modal toma la imagen del propio elemento para no repetirla en el HTML
+        html.append("onclick=\"showScreenshot(this.src)\" ");
         html.append("title='").append(tooltipMessage).append("'/>");
         html.append("</div>");
 
@@ -0,0 +1,159 @@
+package utils;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.net.URI;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estado de una sesión autenticada: cookies, localStorage y sessionStorage.
+ * Se captura una vez después de un login exitoso y se reinyecta en otros navegadores
+ * para evitar repetir el login por interfaz. Es inmutable y puede compartirse entre hilos.
+ */
+final class SessionSnapshot {
+
+    private static final String CAPTURE_STORAGE_SCRIPT =
+            "var dump = function(s) { var o = {}; for (var i = 0; i < s.length; i++) { var k = s.key(i); o[k] = s.getItem(k); } return o; };" +
+            "return { local: dump(window.localStorage), session: dump(window.sessionStorage) };";
+
+    private static final String RESTORE_SCRIPT =
+            "var data = arguments[0];" +
+            "data.cookies.forEach(function(c) { document.cookie = c; });" +
+            "Object.keys(data.local).forEach(function(k) { window.localStorage.setItem(k, data.local[k]); });" +
+            "Object.keys(data.session).forEach(function(k) { window.sessionStorage.setItem(k, data.session[k]); });";
+
+    private final String originUrl;
+    private final String landingUrl;
+    private final Set<Cookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+
+    private SessionSnapshot(String originUrl, String landingUrl, Set<Cookie> cookies,
+                            Map<String, String> localStorage, Map<String, String> sessionStorage) {
+        this.originUrl = originUrl;
+        this.landingUrl = landingUrl;
+        this.cookies = cookies;
+        this.localStorage = localStorage;
+        this.sessionStorage = sessionStorage;
+    }
+
+    /**
+     * Captura el estado de la sesión desde la página autenticada actual.
+     *
+     * @param driver navegador con la sesión iniciada
+     * @return snapshot de la sesión
+     */
+    @SuppressWarnings("unchecked")
+    static SessionSnapshot capture(WebDriver driver) {
+        String landingUrl = driver.getCurrentUrl();
+        // Documento de la misma aplicación donde escribir el storage: el directorio de la página
+        // de destino (ej: https://www.saucedemo.com/v1/), no la raíz del sitio, que puede ser otra aplicación
+        URI uri = URI.create(landingUrl);
+        String path = uri.getPath() == null || uri.getPath().isEmpty() ? "/" : uri.getPath();
+        String originUrl = uri.getScheme() + "://" + uri.getAuthority() + path.substring(0, path.lastIndexOf('/') + 1);
+
+        Map<String, Map<String, String>> storage = (Map<String, Map<String, String>>)
+                ((JavascriptExecutor) driver).executeScript(CAPTURE_STORAGE_SCRIPT);
+
+        return new SessionSnapshot(originUrl, landingUrl,
+                Collections.unmodifiableSet(driver.manage().getCookies()),
+                Collections.unmodifiableMap(new HashMap<>(storage.get("local"))),
+                Collections.unmodifiableMap(new HashMap<>(storage.get("session"))));
+    }
+
+    /**
+     * Inyecta la sesión en un navegador sin navegar a ninguna página autenticada: la siguiente
+     * navegación del test sirve para validarla. Si el navegador soporta CDP y no hay storage que
+     * restaurar, las cookies se cargan sin navegar; si no, primero se abre la aplicación en originUrl.
+     *
+     * @param driver navegador destino
+     */
+    void restore(WebDriver driver) {
+        boolean needsDocument = !localStorage.isEmpty() || !sessionStorage.isEmpty() || !(driver instanceof HasCdp);
+
+        if (needsDocument) {
+            if (!driver.getCurrentUrl().startsWith(originUrl)) {
+                driver.get(originUrl);
+            }
+            restoreHttpOnlyCookies(driver);
+            ((JavascriptExecutor) driver).executeScript(RESTORE_SCRIPT, restorePayload());
+        } else {
+            ((HasCdp) driver).executeCdpCommand("Network.setCookies",
+                    Collections.singletonMap("cookies", cdpCookies()));
+        }
+    }
+
+    /**
+     * Página donde terminó el login original.
+     */
+    String getLandingUrl() {
+        return landingUrl;
+    }
+
+    private Map<String, Object> restorePayload() {
+        List<String> documentCookies = new ArrayList<>();
+        for (Cookie cookie : cookies) {
+            if (!cookie.isHttpOnly()) {
+                StringBuilder value = new StringBuilder(cookie.getName() + "=" + cookie.getValue())
+                        .append("; path=").append(cookie.getPath());
+                if (cookie.getExpiry() != null) {
+                    value.append("; expires=").append(DateTimeFormatter.RFC_1123_DATE_TIME
+                            .format(cookie.getExpiry().toInstant().atZone(ZoneOffset.UTC)));
+                }
+                if (cookie.isSecure()) {
+                    value.append("; secure");
+                }
+                documentCookies.add(value.toString());
+            }
+        }
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("cookies", documentCookies);
+        payload.put("local", localStorage);
+        payload.put("session", sessionStorage);
+        return payload;
+    }
+
+    /**
+     * Las cookies HttpOnly no se pueden escribir desde JavaScript.
+     */
+    private void restoreHttpOnlyCookies(WebDriver driver) {
+        for (Cookie cookie : cookies) {
+            if (cookie.isHttpOnly()) {
+                driver.manage().addCookie(cookie);
+            }
+        }
+    }
+
+    private List<Map<String, Object>> cdpCookies() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Cookie cookie : cookies) {
+            Map<String, Object> params = new LinkedHashMap<>();
+            params.put("name", cookie.getName());
+            params.put("value", cookie.getValue());
+            params.put("domain", cookie.getDomain());
+            params.put("path", cookie.getPath());
+            params.put("secure", cookie.isSecure());
+            params.put("httpOnly", cookie.isHttpOnly());
+            if (cookie.getExpiry() != null) {
+                params.put("expires", cookie.getExpiry().getTime() / 1000);
+            }
+            if (cookie.getSameSite() != null) {
+                params.put("sameSite", cookie.getSameSite());
+            }
+            result.add(params);
+        }
+        return result;
+    }
+}
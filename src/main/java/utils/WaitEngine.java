@@ -0,0 +1,267 @@
+package utils;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Motor de esperas compartido por todas las páginas que usan el mismo WebDriver.
+ * El intervalo de polling empieza en wait.polling.initialMillis y crece con wait.polling.backoff
+ * hasta wait.polling.maxMillis: las condiciones que se cumplen rápido se detectan casi de inmediato
+ * y las esperas largas no saturan el navegador con comandos.
+ * Registra cuántos polls necesitó cada condición para poder ajustar esos valores.
+ * Con wait.mode=push las condiciones que lo soportan se esperan dentro del navegador
+ * (ver {@link PushCondition}) y el polling queda como respaldo.
+ */
+public final class WaitEngine {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(FrameworkConfig.getInt("wait.timeoutSeconds", 15));
+    private static final long INITIAL_POLL_MILLIS = FrameworkConfig.getInt("wait.polling.initialMillis", 50);
+    private static final long MAX_POLL_MILLIS = FrameworkConfig.getInt("wait.polling.maxMillis", 500);
+    private static final double BACKOFF = Double.parseDouble(FrameworkConfig.get("wait.polling.backoff", "1.5"));
+    private static final boolean PUSH_ENABLED = FrameworkConfig.get("wait.mode", "push").equalsIgnoreCase("push");
+    /** Duración máxima de cada executeAsyncScript; debe ser menor al script timeout del driver (30 s por defecto) */
+    private static final long PUSH_CHUNK_MILLIS = 10_000;
+
+    private static final Map<WebDriver, WaitEngine> engines = new ConcurrentHashMap<>();
+    /** Estadísticas acumuladas de toda la ejecución, por descripción de condición */
+    private static final Map<String, WaitStats> suiteStats = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+
+    // Contadores del test actual; un driver solo lo usa un test a la vez
+    private long testWaits;
+    private long testPolls;
+    private long testNanos;
+
+    /**
+     * Condición que se espera dentro del navegador, normalmente con executeAsyncScript y un MutationObserver.
+     */
+    @FunctionalInterface
+    public interface PushCondition {
+        /**
+         * Bloquea hasta que la condición se cumple o pasan maxMillis.
+         *
+         * @return true si la condición se cumplió
+         */
+        boolean await(WebDriver driver, long maxMillis);
+    }
+
+    private WaitEngine(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Obtiene el motor de esperas de un driver, creándolo la primera vez.
+     *
+     * @param driver instancia de WebDriver activa
+     * @return motor de esperas compartido para ese driver
+     */
+    public static WaitEngine forDriver(WebDriver driver) {
+        return engines.computeIfAbsent(driver, WaitEngine::new);
+    }
+
+    /**
+     * Olvida el motor de un driver que se va a cerrar.
+     */
+    public static void forget(WebDriver driver) {
+        engines.remove(driver);
+    }
+
+    /**
+     * Espera una condición con el timeout por defecto (wait.timeoutSeconds).
+     */
+    public <T> T until(Function<? super WebDriver, T> condition) {
+        return until(condition.toString(), condition, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Espera una condición con un timeout propio.
+     */
+    public <T> T until(Function<? super WebDriver, T> condition, Duration timeout) {
+        return until(condition.toString(), condition, timeout);
+    }
+
+    /**
+     * Espera hasta que la condición devuelva un valor distinto de null y de false.
+     *
+     * @param description nombre de la condición en mensajes de error y estadísticas
+     * @param condition condición a evaluar en cada poll
+     * @param timeout tiempo máximo de espera
+     * @return último valor devuelto por la condición
+     * @throws TimeoutException si la condición no se cumple dentro del timeout
+     */
+    public <T> T until(String description, Function<? super WebDriver, T> condition, Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long interval = INITIAL_POLL_MILLIS;
+        int polls = 0;
+        RuntimeException lastError = null;
+
+        try {
+            while (true) {
+                polls++;
+                try {
+                    T value = condition.apply(driver);
+                    if (value != null && !Boolean.FALSE.equals(value)) {
+                        return value;
+                    }
+                } catch (NotFoundException | StaleElementReferenceException e) {
+                    lastError = e;
+                }
+
+                long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMillis <= 0) {
+                    stats(description).timeouts.incrementAndGet();
+                    throw new TimeoutException(String.format("Expected condition failed: waiting for %s (tried for %d ms, %d polls)",
+                            description, timeout.toMillis(), polls), lastError);
+                }
+                sleep(Math.min(interval, remainingMillis));
+                interval = Math.min(MAX_POLL_MILLIS, Math.max(interval + 1, (long) (interval * BACKOFF)));
+            }
+        } finally {
+            record(description, polls, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Espera una condición en modo push con el timeout por defecto.
+     */
+    public void untilPushed(String description, PushCondition push, Function<? super WebDriver, ?> pollFallback) {
+        untilPushed(description, push, pollFallback, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Espera una condición dentro del navegador: el script queda bloqueado hasta que la condición
+     * se cumple y responde en ese momento, sin latencia de polling ni tráfico por cada intento.
+     * Si el documento se reemplaza durante la espera, se vuelve a esperar en el nuevo. Si el navegador
+     * no puede ejecutar el script, el tiempo restante se espera con polling normal. Con wait.mode=poll se usa siempre polling.
+     *
+     * @param description nombre de la condición en mensajes de error y estadísticas
+     * @param push espera dentro del navegador
+     * @param pollFallback la misma condición evaluada con polling
+     * @param timeout tiempo máximo de espera
+     * @throws TimeoutException si la condición no se cumple dentro del timeout
+     */
+    public void untilPushed(String description, PushCondition push, Function<? super WebDriver, ?> pollFallback,
+                            Duration timeout) {
+        if (!PUSH_ENABLED) {
+            until(description, pollFallback, timeout);
+            return;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        int calls = 0;
+        try {
+            while (true) {
+                long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMillis <= 0) {
+                    stats(description + " [push]").timeouts.incrementAndGet();
+                    throw new TimeoutException(String.format("Expected condition failed: waiting for %s (tried for %d ms, push)",
+                            description, timeout.toMillis()));
+                }
+                calls++;
+                try {
+                    if (push.await(driver, Math.min(remainingMillis, PUSH_CHUNK_MILLIS))) {
+                        return;
+                    }
+                } catch (JavascriptException e) {
+                    // Una navegación descarta el script en curso; se vuelve a esperar en el documento nuevo
+                    if (e.getMessage() == null || !e.getMessage().contains("unloaded")) {
+                        throw e;
+                    }
+                }
+            }
+        } catch (TimeoutException e) {
+            throw e;
+        } catch (WebDriverException e) {
+            long remainingNanos = Math.max(0, deadline - System.nanoTime());
+            until(description, pollFallback, Duration.ofNanos(remainingNanos));
+        } finally {
+            record(description + " [push]", calls, System.nanoTime() - start);
+        }
+    }
+
+    private void record(String description, int polls, long elapsedNanos) {
+        WaitStats stats = stats(description);
+        stats.waits.incrementAndGet();
+        stats.polls.addAndGet(polls);
+        stats.nanos.addAndGet(elapsedNanos);
+        testWaits++;
+        testPolls += polls;
+        testNanos += elapsedNanos;
+    }
+
+    /**
+     * Devuelve el resumen de esperas del test actual y reinicia los contadores.
+     *
+     * @return resumen legible, o null si no hubo esperas
+     */
+    public String takeTestSummary() {
+        if (testWaits == 0) {
+            return null;
+        }
+        String summary = String.format("Esperas: %d (%d polls, %d ms)", testWaits, testPolls, testNanos / 1_000_000);
+        testWaits = 0;
+        testPolls = 0;
+        testNanos = 0;
+        return summary;
+    }
+
+    /**
+     * Estadísticas acumuladas de la ejecución, ordenadas por descripción de condición.
+     */
+    public static Map<String, WaitStats> getSuiteStats() {
+        return new TreeMap<>(suiteStats);
+    }
+
+    private static WaitStats stats(String description) {
+        return suiteStats.computeIfAbsent(description, key -> new WaitStats());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Espera interrumpida", e);
+        }
+    }
+
+    /**
+     * Contadores de una condición: veces esperada, polls totales, tiempo total y timeouts.
+     */
+    public static final class WaitStats {
+        private final AtomicLong waits = new AtomicLong();
+        private final AtomicLong polls = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+
+        public long getWaits() { return waits.get(); }
+        public long getPolls() { return polls.get(); }
+        public long getTotalMillis() { return nanos.get() / 1_000_000; }
+        public long getTimeouts() { return timeouts.get(); }
+
+        public double getAveragePolls() {
+            long count = waits.get();
+            return count == 0 ? 0 : (double) polls.get() / count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d esperas, %.1f polls promedio, %d ms, %d timeouts",
+                    getWaits(), getAveragePolls(), getTotalMillis(), getTimeouts());
+        }
+    }
+}
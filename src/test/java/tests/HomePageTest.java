@@ -1,10 +1,16 @@
 package tests;
 
 import basetest.BaseTest;
+import basetest.BlockRequests;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import pages.BasePage;
 import pages.HomePage;
+import pages.Product;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
 
 public class HomePageTest extends BaseTest {
 
@@ -62,5 +68,46 @@ public class HomePageTest extends BaseTest {
         homePage.performLogout();
     }
 
+    @Test(description = "Agregar varios productos al carro en una sola operación")
+    public void testAddProductsToCartInBatch() throws InterruptedException {
+        HomePage homePage = new HomePage(getDriver());
+        homePage.goTo();
+
+        int cartCount = homePage.addProductsToCart("Sauce Labs Backpack", "Sauce Labs Bike Light",
+                "Sauce Labs Bolt T-Shirt", "Sauce Labs Onesie");
+
+        Assert.assertEquals(cartCount, 4, "Cantidad incorrecta de productos en el carrito");
+        Assert.assertEquals(homePage.getCartItemCount(), 4, "El contador del carrito no coincide");
+    }
+
+    @Test(description = "Validar catálogo de productos a partir de una captura del inventario")
+    public void testProductCatalogSnapshot() throws InterruptedException {
+        HomePage homePage = new HomePage(getDriver());
+        homePage.goTo();
+
+        List<Product> products = homePage.getProductSnapshot();
+
+        Assert.assertEquals(products.size(), 6, "Cantidad inesperada de productos en el inventario");
+        for (Product product : products) {
+            Assert.assertNotNull(product.getName(), "Producto sin nombre en la posición " + product.getPosition());
+            Assert.assertTrue(product.getPrice() != null && product.getPrice().compareTo(BigDecimal.ZERO) > 0,
+                    "Precio inválido para " + product.getName());
+            Assert.assertFalse(product.isInCart(), "El carrito debería estar vacío: " + product.getName());
+        }
+
+        Product cheapest = products.stream().min(Comparator.comparing(Product::getPrice)).get();
+        Assert.assertEquals(cheapest.getName(), "Sauce Labs Onesie", "Producto más barato inesperado");
+    }
+
+    @Test(description = "Cargar inventario con imágenes de productos bloqueadas")
+    @BlockRequests("*.jpg")
+    public void testInventoryWithBlockedImages() throws InterruptedException {
+        HomePage homePage = new HomePage(getDriver());
+        homePage.goTo();
+
+        Assert.assertTrue(homePage.isPageLoaded(), "La página de inventario no cargó correctamente");
+        Assert.assertTrue(getBlockedRequestCount() > 0, "No se bloqueó ninguna imagen del inventario");
+    }
+
 }
 
@@ -3,6 +3,7 @@ package tests;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import pages.LoginPage;
+import pages.PageOutcome;
 import basetest.BaseTest;
 
 public class LoginPageTest extends BaseTest {
@@ -22,7 +23,8 @@ public class LoginPageTest extends BaseTest {
         LoginPage loginPage = new LoginPage(getDriver());
 
         loginPage.goTo();
-        loginPage.completeLogin("standard_user", "secret_sauce");
+        PageOutcome outcome = loginPage.completeLogin("standard_user", "secret_sauce");
+        Assert.assertTrue(outcome.isSuccess(), "El login no terminó exitosamente: " + outcome);
         String currentUrl = getDriver().getCurrentUrl();
         Assert.assertTrue(currentUrl.contains("inventory.html"), "No se redirigió a la página de inventario");
 
@@ -33,7 +35,8 @@ public class LoginPageTest extends BaseTest {
         LoginPage loginPage = new LoginPage(getDriver());
 
         loginPage.goTo();
-        loginPage.completeLogin("user", "password");
+        PageOutcome outcome = loginPage.completeLogin("user", "password");
+        Assert.assertTrue(outcome.isError(), "Se esperaba un mensaje de error de login: " + outcome);
 
 
         String currentUrl = getDriver().getCurrentUrl();